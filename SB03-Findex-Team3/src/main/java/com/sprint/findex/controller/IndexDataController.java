@@ -8,12 +8,10 @@ import com.sprint.findex.dto.request.IndexDataCreateRequest;
 import com.sprint.findex.dto.request.IndexDataQueryParams;
 import com.sprint.findex.dto.request.IndexDataUpdateRequest;
 import com.sprint.findex.dto.response.cursor.CursorPageResponseIndexData;
-import com.sprint.findex.dto.response.IndexDataCsvExporter;
 import com.sprint.findex.dto.response.IndexDataDto;
 import com.sprint.findex.entity.Period;
 import com.sprint.findex.service.IndexDataService;
 import jakarta.validation.Valid;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +29,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/index-data")
@@ -83,22 +82,20 @@ public class IndexDataController implements IndexDataApi {
 
 
     @GetMapping("/export/csv")
-    public ResponseEntity<byte[]> exportCsv(@ModelAttribute IndexDataQueryParams params) {
+    public ResponseEntity<StreamingResponseBody> exportCsv(@ModelAttribute IndexDataQueryParams params) {
         log.debug("[IndexDataController] CSV Export 요청: {}", params);
 
-        List<IndexDataDto> data = indexDataService.findAllByConditions(params);
-        String csv = IndexDataCsvExporter.toCsv(data);
-        byte[] csvBytes = csv.getBytes(StandardCharsets.UTF_8);
-
         String fileName = buildExportFileName(params);
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.TEXT_PLAIN);
         headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName);
 
+        StreamingResponseBody body = outputStream -> indexDataService.exportCsv(params, outputStream);
+
         return ResponseEntity.ok()
             .headers(headers)
-            .body(csvBytes);
+            .body(body);
     }
 
 
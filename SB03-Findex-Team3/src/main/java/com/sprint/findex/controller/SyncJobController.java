@@ -1,12 +1,18 @@
 package com.sprint.findex.controller;
 
 import com.sprint.findex.controller.api.SyncJobApi;
+import com.sprint.findex.dto.request.IndexDataBackfillRequest;
 import com.sprint.findex.dto.request.IndexDataSyncRequest;
 import com.sprint.findex.dto.request.SyncJobQueryParams;
 import com.sprint.findex.dto.response.SyncJobDto;
+import com.sprint.findex.dto.response.SyncRunDto;
 import com.sprint.findex.dto.response.cursor.CursorPageResponseSyncJobDto;
 import com.sprint.findex.entity.SyncJobResult;
 import com.sprint.findex.entity.SyncJobType;
+import com.sprint.findex.global.exception.CommonException;
+import com.sprint.findex.global.exception.Errors;
+import com.sprint.findex.global.sync.SyncRun;
+import com.sprint.findex.global.sync.SyncRunRegistry;
 import com.sprint.findex.global.util.IpUtil;
 import com.sprint.findex.mapper.SyncJobQueryParamsMapper;
 import com.sprint.findex.service.SyncJobService;
@@ -20,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -35,26 +42,53 @@ public class SyncJobController implements SyncJobApi {
 
     private final SyncJobService syncJobService;
     private final SyncJobQueryParamsMapper syncJobQueryParamsMapper;
+    private final SyncRunRegistry syncRunRegistry;
 
     @PostMapping("index-infos")
-    public ResponseEntity<List<SyncJobDto>> syncIndexInfoAsync(HttpServletRequest httpRequest) {
+    public ResponseEntity<SyncRunDto> syncIndexInfoAsync(HttpServletRequest httpRequest) {
         String clientIp = IpUtil.getClientIp(httpRequest);
         Mono<List<SyncJobDto>> result = syncJobService.fetchAllIndexInfo(clientIp);
+        SyncRun run = syncRunRegistry.start(SyncJobType.INDEX_INFO, result);
 
         return ResponseEntity
-            .status(HttpStatus.OK)
-            .body(result.block());
+            .status(HttpStatus.ACCEPTED)
+            .body(run.toDto());
     }
 
     @PostMapping("index-data")
-    public ResponseEntity<List<SyncJobDto>> syncIndexInfos(
+    public ResponseEntity<SyncRunDto> syncIndexInfos(
         @Valid @RequestBody IndexDataSyncRequest request, HttpServletRequest httpRequest) {
 
         String workerIp = IpUtil.getClientIp(httpRequest);
         Mono<List<SyncJobDto>> result = syncJobService.fetchAndSaveIndexData(request, workerIp);
+        SyncRun run = syncRunRegistry.start(SyncJobType.INDEX_DATA, result);
+
+        return ResponseEntity
+            .status(HttpStatus.ACCEPTED)
+            .body(run.toDto());
+    }
+
+    @PostMapping("index-data/backfill")
+    public ResponseEntity<SyncRunDto> backfillIndexData(
+        @Valid @RequestBody IndexDataBackfillRequest request, HttpServletRequest httpRequest) {
+
+        String workerIp = IpUtil.getClientIp(httpRequest);
+        Mono<List<SyncJobDto>> result = syncJobService.backfillIndexData(request, workerIp);
+        SyncRun run = syncRunRegistry.start(SyncJobType.INDEX_DATA, result);
+
+        return ResponseEntity
+            .status(HttpStatus.ACCEPTED)
+            .body(run.toDto());
+    }
+
+    @GetMapping("runs/{runId}")
+    public ResponseEntity<SyncRunDto> getSyncRun(@PathVariable String runId) {
+        SyncRun run = syncRunRegistry.find(runId)
+            .orElseThrow(() -> new CommonException(Errors.SYNC_RUN_NOT_FOUND));
+
         return ResponseEntity
             .status(HttpStatus.OK)
-            .body(result.block());
+            .body(run.toDto());
     }
 
     @GetMapping
@@ -19,6 +19,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -111,7 +112,7 @@ public interface IndexDataApi {
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/export/csv")
-    ResponseEntity<byte[]> exportCsv(
+    ResponseEntity<StreamingResponseBody> exportCsv(
         @Parameter(description = "CSV export용 지수 데이터 조회 매개변수") IndexDataQueryParams params
     );
 
@@ -1,8 +1,9 @@
 package com.sprint.findex.controller.api;
 
+import com.sprint.findex.dto.request.IndexDataBackfillRequest;
 import com.sprint.findex.dto.request.IndexDataSyncRequest;
 import com.sprint.findex.dto.response.cursor.CursorPageResponseSyncJobDto;
-import com.sprint.findex.dto.response.SyncJobDto;
+import com.sprint.findex.dto.response.SyncRunDto;
 import com.sprint.findex.entity.SyncJobResult;
 import com.sprint.findex.entity.SyncJobType;
 import com.sprint.findex.dto.response.ErrorResponse;
@@ -19,7 +20,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
-import java.util.List;
 
 @Tag(name = "연동 작업 API", description = "연동 작업 관리 API")
 @RequestMapping("/api/sync-jobs")
@@ -27,10 +27,10 @@ public interface SyncJobApi {
 
     @Operation(
         summary = "지수 정보 연동",
-        description = "Open API를 통해 지수 정보를 연동합니다.",
+        description = "Open API를 통해 지수 정보를 연동합니다. 연동은 비동기로 진행되며 실행 ID로 진행 상황을 조회할 수 있습니다.",
         responses = {
             @ApiResponse(responseCode = "202", description = "연동 작업 생성 성공",
-                content = @Content(schema = @Schema(implementation = SyncJobDto.class))),
+                content = @Content(schema = @Schema(implementation = SyncRunDto.class))),
             @ApiResponse(responseCode = "400", description = "잘못된 요청",
                 content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "서버 오류",
@@ -38,11 +38,11 @@ public interface SyncJobApi {
         }
     )
     @PostMapping("/index-infos")
-    ResponseEntity<List<SyncJobDto>> syncIndexInfoAsync(HttpServletRequest httpRequest);
+    ResponseEntity<SyncRunDto> syncIndexInfoAsync(HttpServletRequest httpRequest);
 
     @Operation(
         summary = "지수 데이터 연동",
-        description = "Open API를 통해 지수 데이터를 연동합니다.",
+        description = "Open API를 통해 지수 데이터를 연동합니다. 연동은 비동기로 진행되며 실행 ID로 진행 상황을 조회할 수 있습니다.",
         requestBody = @RequestBody(
             description = "지수 데이터 연동 요청",
             required = true,
@@ -50,7 +50,7 @@ public interface SyncJobApi {
         ),
         responses = {
             @ApiResponse(responseCode = "202", description = "연동 작업 생성 성공",
-                content = @Content(schema = @Schema(implementation = SyncJobDto.class))),
+                content = @Content(schema = @Schema(implementation = SyncRunDto.class))),
             @ApiResponse(responseCode = "400", description = "잘못된 요청",
                 content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "지수 정보를 찾을 수 없음",
@@ -60,11 +60,51 @@ public interface SyncJobApi {
         }
     )
     @PostMapping("/index-data")
-    ResponseEntity<List<SyncJobDto>> syncIndexInfos(
+    ResponseEntity<SyncRunDto> syncIndexInfos(
         @org.springframework.web.bind.annotation.RequestBody IndexDataSyncRequest request,
         HttpServletRequest httpRequest
     );
 
+    @Operation(
+        summary = "지수 데이터 백필",
+        description = "긴 기간의 지수 데이터를 월/연 단위 청크로 나눠 연동합니다. 완료된 청크는 체크포인트로 기록되어 같은 요청을 다시 보내면 남은 청크부터 이어서 진행합니다.",
+        requestBody = @RequestBody(
+            description = "지수 데이터 백필 요청",
+            required = true,
+            content = @Content(schema = @Schema(implementation = IndexDataBackfillRequest.class))
+        ),
+        responses = {
+            @ApiResponse(responseCode = "202", description = "백필 작업 생성 성공",
+                content = @Content(schema = @Schema(implementation = SyncRunDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+        }
+    )
+    @PostMapping("/index-data/backfill")
+    ResponseEntity<SyncRunDto> backfillIndexData(
+        @org.springframework.web.bind.annotation.RequestBody IndexDataBackfillRequest request,
+        HttpServletRequest httpRequest
+    );
+
+    @Operation(
+        summary = "연동 실행 조회",
+        description = "비동기 연동 실행의 진행 상황(불러온 건수, 저장 건수, 실패 건수)과 완료 시 연동 작업 목록을 조회합니다. "
+            + "실행 정보는 실행을 시작한 노드의 메모리에만 보관되므로(기본 1시간), 응답의 node와 다른 노드로 요청이 가거나 "
+            + "그 노드가 재시작되면 404를 반환합니다. 여러 노드 환경에서는 node로 라우팅하거나 sync_job 이력을 조회하세요.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                content = @Content(schema = @Schema(implementation = SyncRunDto.class))),
+            @ApiResponse(responseCode = "404", description = "연동 실행을 찾을 수 없음 (만료, 재시작 또는 다른 노드의 실행)",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+        }
+    )
+    @GetMapping("/runs/{runId}")
+    ResponseEntity<SyncRunDto> getSyncRun(
+        @Parameter(description = "연동 실행 ID") @PathVariable String runId
+    );
+
     @Operation(
         summary = "연동 작업 목록 조회",
         description = "연동 작업 목록을 조회합니다. 필터링, 정렬, 커서 기반 페이지네이션을 지원합니다.",
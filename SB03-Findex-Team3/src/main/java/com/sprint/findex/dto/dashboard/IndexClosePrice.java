@@ -0,0 +1,10 @@
+package com.sprint.findex.dto.dashboard;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record IndexClosePrice(
+    LocalDate baseDate,
+    BigDecimal closingPrice
+) {
+}
@@ -0,0 +1,17 @@
+package com.sprint.findex.dto.request;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum BackfillChunkUnit {
+    MONTH,
+    YEAR;
+
+    // date가 속한 청크의 마지막 날짜
+    public LocalDate endOfChunk(LocalDate date) {
+        return switch (this) {
+            case MONTH -> date.with(TemporalAdjusters.lastDayOfMonth());
+            case YEAR -> date.with(TemporalAdjusters.lastDayOfYear());
+        };
+    }
+}
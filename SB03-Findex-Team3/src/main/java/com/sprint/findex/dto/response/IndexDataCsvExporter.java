@@ -1,33 +1,44 @@
 package com.sprint.findex.dto.response;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class IndexDataCsvExporter {
 
-    public static String toCsv(List<IndexDataDto> data) {
-        String header = String.join(",", List.of(
-            "id", "baseDate", "sourceType", "closingPrice", "marketPrice", "highPrice", "lowPrice",
-            "versus", "fluctuationRate", "tradingQuantity", "tradingPrice", "marketTotalAmount"
-        ));
+    private static final String HEADER = String.join(",", List.of(
+        "id", "baseDate", "sourceType", "closingPrice", "marketPrice", "highPrice", "lowPrice",
+        "versus", "fluctuationRate", "tradingQuantity", "tradingPrice", "marketTotalAmount"
+    ));
 
-        String rows = data.stream()
-            .map(d -> String.join(",", List.of(
-                d.id().toString(),
-                d.baseDate().toString(),
-                d.sourceType().name(),
-                d.closingPrice().toString(),
-                d.marketPrice().toString(),
-                d.highPrice().toString(),
-                d.lowPrice().toString(),
-                d.versus().toString(),
-                d.fluctuationRate().toString(),
-                d.tradingQuantity().toString(),
-                d.tradingPrice().toString(),
-                d.marketTotalAmount().toString()
-            )))
-            .collect(Collectors.joining("\n"));
+    public static void writeHeader(Writer writer) throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    public static void writeRow(Writer writer, IndexDataDto d) throws IOException {
+        writer.write(toRow(d));
+        writer.write('\n');
+    }
+
+    private static String toRow(IndexDataDto d) {
+        return String.join(",",
+            value(d.id()),
+            value(d.baseDate()),
+            d.sourceType() != null ? d.sourceType().name() : "",
+            value(d.closingPrice()),
+            value(d.marketPrice()),
+            value(d.highPrice()),
+            value(d.lowPrice()),
+            value(d.versus()),
+            value(d.fluctuationRate()),
+            value(d.tradingQuantity()),
+            value(d.tradingPrice()),
+            value(d.marketTotalAmount())
+        );
+    }
 
-        return header + "\n" + rows;
+    private static String value(Object value) {
+        return value != null ? value.toString() : "";
     }
 }
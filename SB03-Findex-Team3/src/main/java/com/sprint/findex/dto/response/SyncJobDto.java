@@ -14,7 +14,18 @@ public record SyncJobDto(
     LocalDate targetDate,
     String worker,
     OffsetDateTime jobTime,
-    SyncJobResult result
+    SyncJobResult result,
+    // 집계 모드의 실행 레코드에서만 채워진다
+    LocalDate targetDateTo,
+    // 지수 데이터 연동 이력에서 채워진다 (일자별 이력은 해당 결과만 1)
+    Integer insertedCount,
+    Integer updatedCount,
+    Integer unchangedCount,
+    Integer failedCount
 ) {
 
+    public SyncJobDto(Long id, SyncJobType jobType, Long indexInfoId, LocalDate targetDate, String worker,
+        OffsetDateTime jobTime, SyncJobResult result) {
+        this(id, jobType, indexInfoId, targetDate, worker, jobTime, result, null, null, null, null, null);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.sprint.findex.dto.response;
+
+import com.sprint.findex.entity.SyncJobType;
+import com.sprint.findex.global.sync.SyncRunStatus;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public record SyncRunDto(
+    String runId,
+    String node,              // run을 보관하는 노드. 조회 요청은 이 노드로 보내야 한다
+    SyncJobType jobType,
+    SyncRunStatus status,
+    long fetched,
+    long upserted,            // inserted + updated
+    long inserted,
+    long updated,
+    long unchanged,
+    long failed,
+    OffsetDateTime startedAt,
+    OffsetDateTime finishedAt,
+    String errorMessage,
+    List<SyncJobDto> jobs     // 실행이 끝난 뒤에만 채워진다
+) {
+
+}
@@ -0,0 +1,51 @@
+package com.sprint.findex.entity;
+
+import com.sprint.findex.entity.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 백필에서 지수별로 저장을 마친 청크 기록. 같은 백필을 다시 요청하면 이 청크들은 건너뛴다
+@Entity
+@Table(
+    name = "backfill_checkpoint",
+    uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"index_info_id", "chunk_from", "chunk_to"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BackfillCheckpoint extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "index_info_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private IndexInfo indexInfo;
+
+    @Column(name = "chunk_from", nullable = false)
+    private LocalDate chunkFrom;
+
+    @Column(name = "chunk_to", nullable = false)
+    private LocalDate chunkTo;
+
+    @Column(name = "completed_at", nullable = false)
+    private OffsetDateTime completedAt;
+
+    public BackfillCheckpoint(IndexInfo indexInfo, LocalDate chunkFrom, LocalDate chunkTo) {
+        this.indexInfo = indexInfo;
+        this.chunkFrom = chunkFrom;
+        this.chunkTo = chunkTo;
+        this.completedAt = OffsetDateTime.now();
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,6 +24,9 @@ import lombok.NoArgsConstructor;
     name = "index_data",
     uniqueConstraints = {
         @UniqueConstraint(columnNames = {"index_info_id", "base_date"})
+    },
+    indexes = {
+        @Index(name = "idx_index_data_base_date", columnList = "base_date")
     }
 )
 @Getter
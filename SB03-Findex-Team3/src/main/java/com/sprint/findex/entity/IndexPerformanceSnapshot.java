@@ -0,0 +1,64 @@
+package com.sprint.findex.entity;
+
+import com.sprint.findex.entity.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+@Entity
+@Table(
+    name = "index_performance_snapshot",
+    uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"index_info_id", "period"})
+    },
+    indexes = {
+        @Index(name = "idx_performance_snapshot_rank", columnList = "period, fluctuation_rate")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IndexPerformanceSnapshot extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "index_info_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private IndexInfo indexInfo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period", nullable = false, length = 10)
+    private Period period;
+
+    // beforePrice를 구할 때 사용한 기준 날짜
+    @Column(name = "base_date", nullable = false)
+    private LocalDate baseDate;
+
+    @Column(name = "current_price", nullable = false, columnDefinition = "NUMERIC")
+    private BigDecimal currentPrice;
+
+    @Column(name = "before_price", nullable = false, columnDefinition = "NUMERIC")
+    private BigDecimal beforePrice;
+
+    @Column(name = "versus", nullable = false, columnDefinition = "NUMERIC")
+    private BigDecimal versus;
+
+    @Column(name = "fluctuation_rate", nullable = false, columnDefinition = "NUMERIC")
+    private BigDecimal fluctuationRate;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private OffsetDateTime refreshedAt;
+}
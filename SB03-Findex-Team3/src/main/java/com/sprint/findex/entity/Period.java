@@ -1,9 +1,21 @@
 package com.sprint.findex.entity;
 
+import java.time.LocalDate;
+
 public enum Period {
     DAILY,
     WEEKLY,
     MONTHLY,
     QUARTERLY,
-    YEARLY
+    YEARLY;
+
+    public LocalDate baseDateOf(LocalDate today) {
+        return switch (this) {
+            case DAILY -> today.minusDays(1);
+            case WEEKLY -> today.minusWeeks(1);
+            case MONTHLY -> today.minusMonths(1);
+            case QUARTERLY -> today.minusMonths(3);
+            case YEARLY -> today.minusYears(1);
+        };
+    }
 }
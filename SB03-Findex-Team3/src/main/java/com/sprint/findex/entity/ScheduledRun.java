@@ -0,0 +1,44 @@
+package com.sprint.findex.entity;
+
+import com.sprint.findex.entity.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 여러 노드 중 하나가 스케줄 작업을 끝냈음을 기록한다 (작업, 실행일당 한 건)
+@Entity
+@Table(
+    name = "scheduled_run",
+    uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"task_name", "run_date"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduledRun extends BaseEntity {
+
+    @Column(name = "task_name", nullable = false, length = 100)
+    private String taskName;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Column(name = "node", nullable = false)
+    private String node;
+
+    @Column(name = "finished_at", nullable = false)
+    private OffsetDateTime finishedAt;
+
+    public ScheduledRun(String taskName, LocalDate runDate, String node, OffsetDateTime finishedAt) {
+        this.taskName = taskName;
+        this.runDate = runDate;
+        this.node = node;
+        this.finishedAt = finishedAt;
+    }
+}
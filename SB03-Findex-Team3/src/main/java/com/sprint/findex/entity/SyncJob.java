@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -16,7 +17,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "sync_job")
+@Table(
+    name = "sync_job",
+    indexes = {
+        @Index(name = "idx_sync_job_job_time", columnList = "job_time, id"),
+        @Index(name = "idx_sync_job_target_date", columnList = "target_date, id"),
+        @Index(name = "idx_sync_job_index_info", columnList = "index_info_id, job_time")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SyncJob extends BaseEntity {
@@ -42,6 +50,23 @@ public class SyncJob extends BaseEntity {
     @Column(name = "result", nullable = false, length = 10)
     private SyncJobResult result;
 
+    // targetDateTo는 집계 모드의 실행 레코드만 값이 있다. 건수는 지수 데이터 연동 이력이면 항상 채운다
+    // (일자별 레코드는 그 일자의 결과에 해당하는 건수만 1)
+    @Column(name = "target_date_to")
+    private LocalDate targetDateTo;
+
+    @Column(name = "inserted_count")
+    private Integer insertedCount;
+
+    @Column(name = "updated_count")
+    private Integer updatedCount;
+
+    @Column(name = "unchanged_count")
+    private Integer unchangedCount;
+
+    @Column(name = "failed_count")
+    private Integer failedCount;
+
     public SyncJob(
         SyncJobType jobType,
         IndexInfo indexInfo,
@@ -0,0 +1,66 @@
+package com.sprint.findex.entity;
+
+import com.sprint.findex.entity.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 노드 간에 나눠 처리하는 지수 데이터 연동 작업 큐 (지수, 기간당 한 건)
+// 등록/선점/완료는 SyncTaskQueueRepository의 SQL로만 처리한다
+@Entity
+@Table(
+    name = "sync_task",
+    indexes = {
+        @Index(name = "idx_sync_task_claim", columnList = "status, lease_expires_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SyncTask extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "index_info_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private IndexInfo indexInfo;
+
+    @Column(name = "range_from", nullable = false)
+    private LocalDate rangeFrom;
+
+    @Column(name = "range_to", nullable = false)
+    private LocalDate rangeTo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private SyncTaskStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "lease_owner")
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private OffsetDateTime leaseExpiresAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+}
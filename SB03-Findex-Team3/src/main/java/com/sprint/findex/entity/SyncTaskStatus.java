@@ -0,0 +1,8 @@
+package com.sprint.findex.entity;
+
+public enum SyncTaskStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
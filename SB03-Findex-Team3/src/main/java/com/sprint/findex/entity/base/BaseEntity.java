@@ -10,8 +10,9 @@ import lombok.Getter;
 @Getter
 @MappedSuperclass
 public abstract class BaseEntity {
+    // 엔티티별 시퀀스(<entity>_seq, allocationSize 50)를 사용해야 JDBC 배치 insert가 동작한다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "id", nullable = false)
     private Long id;
 }
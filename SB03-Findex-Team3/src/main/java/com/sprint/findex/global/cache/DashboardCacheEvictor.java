@@ -0,0 +1,42 @@
+package com.sprint.findex.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.sprint.findex.global.config.CacheConfig;
+import com.sprint.findex.global.event.IndexDataChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    // 커밋 이후에 비워야 이전 값이 다시 캐시에 올라가지 않는다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIndexDataChanged(IndexDataChangedEvent event) {
+        Long indexInfoId = event.indexInfoId();
+
+        evictIf(CacheConfig.INDEX_CHART, indexInfoId);
+        evictIf(CacheConfig.PERFORMANCE_RANK, indexInfoId);
+        nativeCache(CacheConfig.FAVORITE_PERFORMANCE).invalidateAll();
+
+        log.debug("[DashboardCacheEvictor] 대시보드 캐시 무효화: indexInfoId={}", indexInfoId);
+    }
+
+    private void evictIf(String cacheName, Long indexInfoId) {
+        nativeCache(cacheName).asMap().keySet()
+            .removeIf(key -> key instanceof DashboardCacheKey cacheKey && cacheKey.covers(indexInfoId));
+    }
+
+    private Cache<Object, Object> nativeCache(String cacheName) {
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(cacheName);
+        return cache.getNativeCache();
+    }
+}
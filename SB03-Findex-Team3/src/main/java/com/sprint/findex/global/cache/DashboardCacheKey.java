@@ -0,0 +1,18 @@
+package com.sprint.findex.global.cache;
+
+import com.sprint.findex.entity.Period;
+
+public record DashboardCacheKey(
+    Long indexInfoId,
+    Period period,
+    Integer limit
+) {
+
+    public static DashboardCacheKey of(Long indexInfoId, Period period, Integer limit) {
+        return new DashboardCacheKey(indexInfoId, period, limit);
+    }
+
+    public boolean covers(Long changedIndexInfoId) {
+        return indexInfoId == null || indexInfoId.equals(changedIndexInfoId);
+    }
+}
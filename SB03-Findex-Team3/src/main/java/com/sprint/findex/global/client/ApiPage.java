@@ -0,0 +1,9 @@
+package com.sprint.findex.global.client;
+
+import java.util.List;
+
+public record ApiPage<T>(
+    int totalCount,
+    List<T> items
+) {
+}
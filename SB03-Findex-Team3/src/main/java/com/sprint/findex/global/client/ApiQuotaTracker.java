@@ -0,0 +1,63 @@
+package com.sprint.findex.global.client;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// data.go.kr 일일 호출 한도 계산기. 한도는 한국 시간 자정에 초기화된다
+// 노드별로 따로 세므로 여러 인스턴스를 띄우면 노드 수만큼 나눠서 설정한다
+@Slf4j
+@Component
+public class ApiQuotaTracker {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final int dailyLimit;
+    private final Clock clock;
+
+    private LocalDate day;
+    private int used;
+
+    @Autowired
+    public ApiQuotaTracker(@Value("${api.data.daily-quota:10000}") int dailyLimit) {
+        this(dailyLimit, Clock.system(KST));
+    }
+
+    public ApiQuotaTracker(int dailyLimit, Clock clock) {
+        this.dailyLimit = dailyLimit;
+        this.clock = clock;
+        this.day = LocalDate.now(clock);
+    }
+
+    public synchronized boolean tryAcquire() {
+        rollOver();
+        if (used >= dailyLimit) {
+            return false;
+        }
+        used++;
+        return true;
+    }
+
+    public synchronized int remaining() {
+        rollOver();
+        return Math.max(0, dailyLimit - used);
+    }
+
+    public synchronized int used() {
+        rollOver();
+        return used;
+    }
+
+    private void rollOver() {
+        LocalDate today = LocalDate.now(clock);
+        if (!today.equals(day)) {
+            log.info("[ApiQuotaTracker] 일일 호출 한도 초기화: {} 사용량={}", day, used);
+            day = today;
+            used = 0;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.sprint.findex.global.client;
+
+import com.sprint.findex.global.dto.ApiResponse;
+import com.sprint.findex.global.dto.MarketIndexResponse.MarketIndexData;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketIndexApiClient {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final IntConsumer IGNORE_TOTAL_COUNT = totalCount -> {
+    };
+
+    private final WebClient marketIndexWebClient;
+    private final MarketIndexStreamDecoder marketIndexStreamDecoder;
+    private final MarketIndexApiGuard marketIndexApiGuard;
+
+    @Value("${api.data.service-key}")
+    private String serviceKey;
+
+    @Value("${api.data.base-url}")
+    private String baseUrl;
+
+    @Value("${api.data.page-size:1000}")
+    private int pageSize;
+
+    @Value("${api.data.fetch-parallelism:4}")
+    private int fetchParallelism;
+
+    @Value("${api.data.catalog-lookback-days:14}")
+    private int catalogLookbackDays;
+
+    // indexName이 null이면 기간 내 전체 지수를 조회한다
+    // 첫 페이지를 읽으면서 알게 된 totalCount로 나머지 페이지를 병렬로 가져온다
+    public Flux<MarketIndexData> fetchMarketIndexData(LocalDate from, LocalDate to, String indexName) {
+        return Flux.defer(() -> {
+            AtomicInteger totalCount = new AtomicInteger();
+
+            Flux<MarketIndexData> rest = Flux.defer(() -> {
+                int totalPages = (totalCount.get() + pageSize - 1) / pageSize;
+                log.debug("[MarketIndexApiClient] 전체 건수={}, 페이지 수={}", totalCount.get(), totalPages);
+
+                return Flux.range(2, Math.max(0, totalPages - 1))
+                    .flatMap(pageNo -> fetchMarketIndexPage(from, to, indexName, pageNo, IGNORE_TOTAL_COUNT),
+                        fetchParallelism);
+            });
+
+            return fetchMarketIndexPage(from, to, indexName, 1, totalCount::set).concatWith(rest);
+        });
+    }
+
+    // 기간 없이 조회하면 전체 이력을 페이지로 넘기게 되므로 최근 catalogLookbackDays일(연휴 포함)만 조회하고
+    // 지수별로 가장 최근 거래일의 항목 하나만 남긴다
+    public Flux<ApiResponse.StockIndexItem> fetchAllIndexInfos(LocalDate today) {
+        LocalDate from = today.minusDays(catalogLookbackDays);
+
+        return fetchAllPages(pageNo -> fetchIndexInfoPage(from, today, pageNo))
+            .collect(LinkedHashMap<String, ApiResponse.StockIndexItem>::new, (latest, item) -> latest.merge(
+                item.getIndexClassification() + "|" + item.getIndexName(), item,
+                (kept, candidate) -> isAfter(candidate.getBaseDate(), kept.getBaseDate()) ? candidate : kept))
+            .flatMapIterable(LinkedHashMap::values);
+    }
+
+    // basDt는 yyyyMMdd 문자열이라 사전순 비교가 날짜 비교와 같다
+    private boolean isAfter(String baseDate, String other) {
+        return baseDate != null && (other == null || baseDate.compareTo(other) > 0);
+    }
+
+    // 첫 페이지의 totalCount로 나머지 페이지 수를 구하고, 남은 페이지는 병렬로 가져온다
+    private <T> Flux<T> fetchAllPages(IntFunction<Mono<ApiPage<T>>> pageFetcher) {
+        return pageFetcher.apply(1)
+            .flatMapMany(first -> {
+                int totalPages = (first.totalCount() + pageSize - 1) / pageSize;
+                log.debug("[MarketIndexApiClient] 전체 건수={}, 페이지 수={}", first.totalCount(), totalPages);
+
+                Flux<T> rest = Flux.range(2, Math.max(0, totalPages - 1))
+                    .flatMap(pageFetcher::apply, fetchParallelism)
+                    .flatMapIterable(ApiPage::items);
+
+                return Flux.fromIterable(first.items()).concatWith(rest);
+            });
+    }
+
+    private Flux<MarketIndexData> fetchMarketIndexPage(
+        LocalDate from, LocalDate to, String indexName, int pageNo, IntConsumer totalCountConsumer) {
+        StringBuilder url = new StringBuilder(String.format(
+            "%s/getStockMarketIndex?serviceKey=%s&resultType=json&pageNo=%d&numOfRows=%d&beginBasDt=%s&endBasDt=%s",
+            baseUrl, serviceKey, pageNo, pageSize, from.format(DATE_FORMATTER), to.format(DATE_FORMATTER)));
+
+        if (indexName != null) {
+            url.append("&idxNm=").append(URLEncoder.encode(indexName, StandardCharsets.UTF_8));
+        }
+
+        // 응답 도중 실패해 재시도되면 이미 내보낸 item이 처음부터 다시 온다
+        // 재시도 바깥에서 (idxCsf, idxNm, basDt)로 걸러야 청크 저장/연동 이력/진행 건수가 중복되지 않는다
+        return marketIndexApiGuard.guardFlux("getStockMarketIndex", () -> marketIndexWebClient.get()
+                .uri(URI.create(url.toString()))
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .transform(body -> marketIndexStreamDecoder.decode(body, totalCountConsumer)))
+            .distinct(item -> item.getIdxCsf() + "|" + item.getIdxNm() + "|" + item.getBasDt())
+            .doOnError(e -> log.error("[MarketIndexApiClient] 지수 시장 데이터 불러오기 실패: name={}, page={}",
+                indexName, pageNo));
+    }
+
+    private Mono<ApiPage<ApiResponse.StockIndexItem>> fetchIndexInfoPage(LocalDate from, LocalDate to, int pageNo) {
+        String url = String.format(
+            "%s/getStockMarketIndex?serviceKey=%s&resultType=json&pageNo=%d&numOfRows=%d&beginBasDt=%s&endBasDt=%s",
+            baseUrl, serviceKey, pageNo, pageSize, from.format(DATE_FORMATTER), to.format(DATE_FORMATTER));
+        log.info("[MarketIndexApiClient] API 호출: {}", url.replaceAll("serviceKey=[^&]*", "serviceKey=****"));
+
+        return marketIndexApiGuard.guardMono("getStockMarketIndex", () -> marketIndexWebClient.get()
+                .uri(URI.create(url))
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(ApiResponse.class))
+            .map(this::toPage)
+            .doOnError(e -> log.error("[MarketIndexApiClient] API 호출 실패: page={}", pageNo, e));
+    }
+
+    private ApiPage<ApiResponse.StockIndexItem> toPage(ApiResponse response) {
+        ApiResponse.Body body = response.getBody();
+        if (body == null || body.getItems() == null || body.getItems().getItem() == null) {
+            return new ApiPage<>(body != null ? body.getTotalCount() : 0, List.of());
+        }
+        return new ApiPage<>(body.getTotalCount(), body.getItems().getItem());
+    }
+}
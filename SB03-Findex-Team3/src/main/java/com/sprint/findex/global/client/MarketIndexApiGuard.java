@@ -0,0 +1,109 @@
+package com.sprint.findex.global.client;
+
+import com.sprint.findex.global.exception.CommonException;
+import com.sprint.findex.global.exception.Errors;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+// Open API 호출마다 일일 한도 확인 -> 초당 호출 제한 -> 서킷 브레이커 순으로 감싸고,
+// 일시적인 실패(5xx, 429, 연결/타임아웃)만 지수 백오프 + 지터로 재시도한다
+@Slf4j
+@Component
+public class MarketIndexApiGuard {
+
+    private final ApiQuotaTracker apiQuotaTracker;
+    private final CircuitBreaker circuitBreaker;
+    private final RateLimiter rateLimiter;
+    private final int maxRetries;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+
+    public MarketIndexApiGuard(
+        ApiQuotaTracker apiQuotaTracker,
+        @Value("${api.data.retry.max-attempts:3}") int maxRetries,
+        @Value("${api.data.retry.min-backoff:500ms}") Duration minBackoff,
+        @Value("${api.data.retry.max-backoff:10s}") Duration maxBackoff,
+        @Value("${api.data.rate-limit.calls-per-second:20}") int callsPerSecond,
+        @Value("${api.data.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+        @Value("${api.data.circuit-breaker.open-duration:60s}") Duration openDuration
+    ) {
+        this.apiQuotaTracker = apiQuotaTracker;
+        this.maxRetries = maxRetries;
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+
+        this.circuitBreaker = CircuitBreaker.of("marketIndexApi", CircuitBreakerConfig.custom()
+            .failureRateThreshold(failureRateThreshold)
+            .slidingWindowSize(20)
+            .minimumNumberOfCalls(10)
+            .waitDurationInOpenState(openDuration)
+            .recordException(this::isTransient)
+            .build());
+
+        // 대기 시간을 넉넉히 두어 한도를 넘는 호출은 실패시키지 않고 늦춘다
+        this.rateLimiter = RateLimiter.of("marketIndexApi", RateLimiterConfig.custom()
+            .limitForPeriod(callsPerSecond)
+            .limitRefreshPeriod(Duration.ofSeconds(1))
+            .timeoutDuration(Duration.ofMinutes(1))
+            .build());
+    }
+
+    public <T> Flux<T> guardFlux(String callName, Supplier<Flux<T>> call) {
+        return Flux.defer(() -> acquireQuota(callName).thenMany(Flux.defer(call)))
+            .transformDeferred(RateLimiterOperator.of(rateLimiter))
+            .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+            .onErrorMap(CallNotPermittedException.class, e -> new CommonException(Errors.API_UNAVAILABLE, e))
+            .retryWhen(retrySpec(callName));
+    }
+
+    public <T> Mono<T> guardMono(String callName, Supplier<Mono<T>> call) {
+        return guardFlux(callName, () -> Flux.from(call.get())).next();
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private Mono<Void> acquireQuota(String callName) {
+        if (apiQuotaTracker.tryAcquire()) {
+            return Mono.empty();
+        }
+        log.warn("[MarketIndexApiGuard] 일일 호출 한도 초과로 호출하지 않음: {}", callName);
+        return Mono.error(new CommonException(Errors.API_QUOTA_EXCEEDED));
+    }
+
+    private Retry retrySpec(String callName) {
+        return Retry.backoff(maxRetries, minBackoff)
+            .maxBackoff(maxBackoff)
+            .jitter(0.5)
+            .filter(this::isTransient)
+            .doBeforeRetry(signal -> log.warn("[MarketIndexApiGuard] {} 재시도 {}회: {}",
+                callName, signal.totalRetries() + 1, signal.failure().toString()))
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private boolean isTransient(Throwable error) {
+        if (error instanceof WebClientResponseException e) {
+            return e.getStatusCode().is5xxServerError() || e.getStatusCode().value() == 429;
+        }
+        return error instanceof WebClientRequestException
+            || error instanceof TimeoutException
+            || error instanceof io.netty.handler.timeout.TimeoutException;
+    }
+}
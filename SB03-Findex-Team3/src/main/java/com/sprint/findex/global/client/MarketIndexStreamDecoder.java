@@ -0,0 +1,172 @@
+package com.sprint.findex.global.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.findex.global.dto.MarketIndexResponse.MarketIndexData;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// getStockMarketIndex 응답을 전체 객체 그래프로 만들지 않고 토큰 단위로 읽어 item을 하나씩 내보낸다
+@Component
+@RequiredArgsConstructor
+public class MarketIndexStreamDecoder {
+
+    private final ObjectMapper objectMapper;
+
+    // totalCount는 응답에서 읽히는 시점에 totalCountConsumer로 전달된다
+    public Flux<MarketIndexData> decode(Flux<DataBuffer> body, IntConsumer totalCountConsumer) {
+        return Flux.defer(() -> {
+            PageParser parser = new PageParser(newParser(), totalCountConsumer);
+
+            return body
+                .concatMapIterable(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return parser.feed(bytes);
+                })
+                .concatWith(Mono.fromCallable(parser::finish).flatMapIterable(items -> items))
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+        });
+    }
+
+    private JsonParser newParser() {
+        try {
+            return objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class PageParser {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final IntConsumer totalCountConsumer;
+
+        private int depth;
+        private String fieldName;
+        // "item" 배열의 깊이. 배열 밖이면 -1
+        private int itemArrayDepth = -1;
+        private int itemDepth = -1;
+        private MarketIndexData current;
+
+        PageParser(JsonParser parser, IntConsumer totalCountConsumer) {
+            this.parser = parser;
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            this.totalCountConsumer = totalCountConsumer;
+        }
+
+        List<MarketIndexData> feed(byte[] bytes) {
+            try {
+                feeder.feedInput(bytes, 0, bytes.length);
+                return drain();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        List<MarketIndexData> finish() {
+            try {
+                feeder.endOfInput();
+                List<MarketIndexData> items = drain();
+                parser.close();
+                return items;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private List<MarketIndexData> drain() throws IOException {
+            List<MarketIndexData> items = new ArrayList<>();
+            JsonToken token;
+
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                switch (token) {
+                    case FIELD_NAME -> fieldName = parser.currentName();
+                    case START_ARRAY -> {
+                        depth++;
+                        if (current == null && "item".equals(fieldName)) {
+                            itemArrayDepth = depth;
+                        }
+                    }
+                    case END_ARRAY -> {
+                        if (depth == itemArrayDepth) {
+                            itemArrayDepth = -1;
+                        }
+                        depth--;
+                    }
+                    case START_OBJECT -> {
+                        depth++;
+                        // 결과가 한 건이면 item이 배열이 아닌 객체로 올 수 있다
+                        boolean arrayElement = itemArrayDepth != -1 && depth == itemArrayDepth + 1;
+                        boolean singleItem = itemArrayDepth == -1 && "item".equals(fieldName);
+                        if (current == null && (arrayElement || singleItem)) {
+                            current = new MarketIndexData();
+                            itemDepth = depth;
+                        }
+                    }
+                    case END_OBJECT -> {
+                        if (current != null && depth == itemDepth) {
+                            items.add(current);
+                            current = null;
+                            itemDepth = -1;
+                        }
+                        depth--;
+                    }
+                    case VALUE_NULL -> {
+                    }
+                    default -> onScalar();
+                }
+            }
+            return items;
+        }
+
+        private void onScalar() throws IOException {
+            if (current != null) {
+                setField(current, fieldName, parser.getText());
+            } else if ("totalCount".equals(fieldName)) {
+                totalCountConsumer.accept(parser.getValueAsInt());
+            }
+        }
+
+        private void setField(MarketIndexData item, String name, String text) {
+            switch (name) {
+                case "basDt" -> item.setBasDt(text);
+                case "idxCsf" -> item.setIdxCsf(text);
+                case "idxNm" -> item.setIdxNm(text);
+                case "mkp" -> item.setMkp(toDecimal(text));
+                case "clpr" -> item.setClpr(toDecimal(text));
+                case "hipr" -> item.setHipr(toDecimal(text));
+                case "lopr" -> item.setLopr(toDecimal(text));
+                case "vs" -> item.setVs(toDecimal(text));
+                case "fltRt" -> item.setFltRt(toDecimal(text));
+                case "trqu" -> item.setTrqu(toLong(text));
+                case "trPrc" -> item.setTrPrc(toLong(text));
+                case "lstgMrktTotAmt" -> item.setLstgMrktTotAmt(toLong(text));
+                default -> {
+                }
+            }
+        }
+
+        private BigDecimal toDecimal(String text) {
+            return text == null || text.isBlank() ? null : new BigDecimal(text.trim());
+        }
+
+        private Long toLong(String text) {
+            return text == null || text.isBlank() ? null : new BigDecimal(text.trim()).longValueExact();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.sprint.findex.global.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String INDEX_CHART = "indexChart";
+    public static final String FAVORITE_PERFORMANCE = "favoritePerformance";
+    public static final String PERFORMANCE_RANK = "performanceRank";
+}
@@ -0,0 +1,21 @@
+package com.sprint.findex.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class SyncExecutionConfig {
+
+    // 연동 파이프라인의 JPA/JDBC 작업 전용 스케줄러. 스레드 수가 곧 DB 동시 작업 수의 상한이다
+    // 커넥션 풀 전체를 쓰지 않도록 웹 요청용 여유 커넥션을 남겨둔다
+    @Bean(destroyMethod = "dispose")
+    public Scheduler syncDbScheduler(
+        @Value("${sync.db.max-concurrency:8}") int maxConcurrency,
+        @Value("${sync.db.queue-capacity:10000}") int queueCapacity
+    ) {
+        return Schedulers.newBoundedElastic(maxConcurrency, queueCapacity, "sync-db");
+    }
+}
@@ -26,6 +26,8 @@ public class WebClientConfig {
 
         return WebClient.builder()
             .clientConnector(new ReactorClientHttpConnector(httpClient))
+            // numOfRows=1000 페이지 응답이 기본 버퍼(256KB)를 넘는다
+            .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
             .build();
     }
 }
\ No newline at end of file
@@ -102,6 +102,9 @@ public class ApiResponse {
         @JsonProperty("basIdx")
         private String baseIndex;
 
+        @JsonProperty("basDt")
+        private String baseDate;
+
         public String getIndexClassification() {
             return indexClassification;
         }
@@ -136,5 +139,12 @@ public class ApiResponse {
         public void setBaseIndex(String baseIndex) {
             this.baseIndex = baseIndex;
         }
+
+        public String getBaseDate() {
+            return baseDate;
+        }
+        public void setBaseDate(String baseDate) {
+            this.baseDate = baseDate;
+        }
     }
 }
@@ -15,6 +15,9 @@ public class MarketIndexResponse {
 
     @Data
     public static class MarketIndexBody {
+        private int numOfRows;
+        private int pageNo;
+        private int totalCount;
         private Items items;
 
         @Data
@@ -0,0 +1,6 @@
+package com.sprint.findex.global.event;
+
+public record IndexDataChangedEvent(
+    Long indexInfoId
+) {
+}
@@ -11,6 +11,7 @@ public enum Errors {
     INDEX_DATA_NOT_FOUND(404, "I002", "지수 데이터가 존재하지 않습니다.", "해당 지수의 데이터가 없습니다."),
     AUTO_SYNC_NOT_FOUND(404, "S001", "자동 연동 설정이 없습니다.", "해당 자동 동기화 설정을 찾을 수 없습니다."),
     SYNC_JOB_HISTORY_NOT_FOUND(404, "S002", "연동 이력이 없습니다.", "요청한 동기화 이력이 존재하지 않습니다."),
+    SYNC_RUN_NOT_FOUND(404, "S008", "연동 실행이 없습니다.", "실행 ID가 잘못되었거나 보관 기간이 지났습니다."),
 
     INDEX_INFO_BAD_REQUEST(400, "I003", "지수 정보 요청이 잘못되었습니다.", "필수 파라미터가 누락되었거나 잘못되었습니다."),
     INDEX_DATA_BAD_REQUEST(400, "I004", "지수 데이터 요청이 잘못되었습니다.", "요청 형식을 확인하세요."),
@@ -23,6 +24,9 @@ public enum Errors {
     AUTO_SYNC_ALREADY_EXISTS(409, "S006", "자동 연동 설정이 이미 존재합니다.", "중복된 설정입니다."),
     SYNC_JOB_HISTORY_ALREADY_EXISTS(409, "S007", "연동 이력이 이미 존재합니다.", "중복된 요청입니다."),
 
+    API_QUOTA_EXCEEDED(429, "E002", "Open API 일일 호출 한도를 초과했습니다.", "다음 날 한도가 초기화된 뒤 다시 시도하세요."),
+    API_UNAVAILABLE(503, "E003", "Open API를 일시적으로 사용할 수 없습니다.", "연속된 호출 실패로 회로가 열려 있습니다."),
+
     INTERNAL_SERVER_ERROR(500, "E001", "내부 서버 오류", "서버에서 처리 중 오류 발생");
 
     private final int status;
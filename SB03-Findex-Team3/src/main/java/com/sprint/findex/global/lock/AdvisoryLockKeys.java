@@ -0,0 +1,15 @@
+package com.sprint.findex.global.lock;
+
+// PostgreSQL advisory lock 키. 모든 노드가 같은 값을 써야 하므로 String.hashCode() 대신 고정 상수를 쓴다
+// 상위 32비트는 애플리케이션 접두사("FIND"), 하위 32비트는 용도별 번호이며 새 키는 여기에만 추가한다
+public final class AdvisoryLockKeys {
+
+    private static final long PREFIX = 0x46494E44L << 32;
+
+    public static final long AUTO_SYNC_LEADER = PREFIX | 1;
+    public static final long SYNC_JOB_PARTITION = PREFIX | 2;
+    public static final long PERFORMANCE_SNAPSHOT_REBUILD = PREFIX | 3;
+
+    private AdvisoryLockKeys() {
+    }
+}
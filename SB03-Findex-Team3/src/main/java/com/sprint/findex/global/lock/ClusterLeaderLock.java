@@ -0,0 +1,165 @@
+package com.sprint.findex.global.lock;
+
+import com.sprint.findex.entity.ScheduledRun;
+import com.sprint.findex.repository.ScheduledRunRepository;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterLeaderLock {
+
+    // 락 세션은 실행 내내(최대 sync.scheduler.run-timeout) 유지되므로 Hikari 풀이 아닌 별도 커넥션을 쓴다
+    private final DataSourceProperties dataSourceProperties;
+    private final ScheduledRunRepository scheduledRunRepository;
+
+    // 리더가 실행 중일 때 takeover-window 동안 락을 다시 시도하는 전용 스레드
+    // 스케줄러 스레드(spring.task.scheduling.pool)는 한 번만 시도하고 바로 돌아간다
+    private final Scheduler takeoverScheduler = Schedulers.newSingle("leader-takeover");
+    private final Set<String> pendingTakeovers = ConcurrentHashMap.newKeySet();
+
+    @Value("${sync.leader.poll-interval:30s}")
+    private Duration pollInterval;
+
+    @Value("${sync.leader.takeover-window:30m}")
+    private Duration takeoverWindow;
+
+    // 같은 DB를 쓰는 노드 중 advisory lock을 잡은 한 노드만 task를 실행한다
+    // 락은 전용 커넥션의 세션에 묶여 있어 리더가 죽으면 자동으로 풀리고,
+    // 락을 못 잡은 노드는 takeover-window 동안 leader-takeover 스레드에서 다시 시도해 이어서 실행한다
+    // 주의: 리더가 살아 있어도 이 세션만 끊기면(네트워크 단절, DB 재시작, idle 세션 종료 등) 실행 도중 락이 풀려
+    // 다른 노드가 같은 task를 동시에 시작할 수 있다. 연동은 upsert라 데이터는 맞지만 API 호출과 이력은 중복된다
+    // lockKey는 AdvisoryLockKeys의 고정 상수를 쓴다
+    public boolean runAsLeader(String taskName, long lockKey, LocalDate runDate, Runnable task) {
+        Attempt attempt = tryRun(taskName, lockKey, runDate, task);
+        if (attempt == Attempt.LOCK_HELD) {
+            scheduleTakeover(taskName, lockKey, runDate, task, System.nanoTime() + takeoverWindow.toNanos());
+        }
+        return attempt == Attempt.RAN;
+    }
+
+    private Attempt tryRun(String taskName, long lockKey, LocalDate runDate, Runnable task) {
+        if (scheduledRunRepository.existsByTaskNameAndRunDate(taskName, runDate)) {
+            log.info("[ClusterLeaderLock] 다른 노드가 이미 실행 완료: task={}, runDate={}", taskName, runDate);
+            return Attempt.FINISHED;
+        }
+
+        try (Connection connection = openLockConnection()) {
+            if (!tryLock(connection, lockKey)) {
+                return Attempt.LOCK_HELD;
+            }
+            try {
+                // 락을 기다리는 동안 리더가 정상 종료했을 수 있다
+                if (scheduledRunRepository.existsByTaskNameAndRunDate(taskName, runDate)) {
+                    return Attempt.FINISHED;
+                }
+
+                log.info("[ClusterLeaderLock] 리더로 선출됨: task={}, runDate={}", taskName, runDate);
+                task.run();
+                markFinished(taskName, runDate);
+                return Attempt.RAN;
+            } finally {
+                unlock(connection, lockKey);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("[ClusterLeaderLock] advisory lock 처리 실패: " + taskName, e);
+        }
+    }
+
+    // 같은 task/runDate의 재시도는 노드마다 하나만 걸어 둔다
+    private void scheduleTakeover(String taskName, long lockKey, LocalDate runDate, Runnable task, long deadline) {
+        String takeoverKey = taskName + "@" + runDate;
+        if (!pendingTakeovers.add(takeoverKey)) {
+            return;
+        }
+        log.debug("[ClusterLeaderLock] 다른 노드가 실행 중, {} 후 재시도: task={}", pollInterval, taskName);
+
+        takeoverScheduler.schedule(() -> {
+            pendingTakeovers.remove(takeoverKey);
+            try {
+                if (tryRun(taskName, lockKey, runDate, task) != Attempt.LOCK_HELD) {
+                    return;
+                }
+                if (System.nanoTime() >= deadline) {
+                    log.info("[ClusterLeaderLock] 다른 노드가 실행 중, 대기 종료: task={}, runDate={}", taskName, runDate);
+                    return;
+                }
+                scheduleTakeover(taskName, lockKey, runDate, task, deadline);
+            } catch (Exception e) {
+                log.error("[ClusterLeaderLock] 리더 인계 실행 실패: task={}, runDate={}", taskName, runDate, e);
+            }
+        }, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        takeoverScheduler.dispose();
+    }
+
+    // 풀 밖의 커넥션이라 웹 요청과 연동 파이프라인이 쓸 커넥션을 차지하지 않는다
+    private Connection openLockConnection() throws SQLException {
+        return DriverManager.getConnection(
+            dataSourceProperties.determineUrl(),
+            dataSourceProperties.determineUsername(),
+            dataSourceProperties.determinePassword());
+    }
+
+    private boolean tryLock(Connection connection, long lockKey) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, lockKey);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private void unlock(Connection connection, long lockKey) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, lockKey);
+            statement.execute();
+        } catch (SQLException e) {
+            // 커넥션이 끊긴 경우라면 세션 종료와 함께 락도 이미 풀려 있다
+            log.warn("[ClusterLeaderLock] advisory unlock 실패: lockKey={}", lockKey, e);
+        }
+    }
+
+    private void markFinished(String taskName, LocalDate runDate) {
+        try {
+            scheduledRunRepository.save(new ScheduledRun(taskName, runDate, nodeName(), OffsetDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("[ClusterLeaderLock] 실행 완료 기록이 이미 존재함: task={}, runDate={}", taskName, runDate);
+        }
+    }
+
+    private enum Attempt {
+        RAN, FINISHED, LOCK_HELD
+    }
+
+    private String nodeName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.sprint.findex.global.sync;
+
+import com.sprint.findex.dto.response.SyncJobDto;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+public class InProcessSyncSingleFlight implements SyncSingleFlight {
+
+    // 지수 ID별 진행 중인 작업. flights 자체를 락으로 사용한다
+    private final Map<Long, List<Flight>> flights = new HashMap<>();
+
+    @Override
+    public Mono<List<SyncJobDto>> execute(
+        List<SyncFlightKey> keys,
+        Function<List<SyncFlightKey>, Mono<List<SyncJobDto>>> work
+    ) {
+        // 구독 시점에 등록해야 구독되지 않은 작업이 남지 않는다
+        return Mono.defer(() -> {
+            List<Mono<List<SyncJobDto>>> results = new ArrayList<>();
+            List<SyncFlightKey> missing = new ArrayList<>();
+
+            synchronized (flights) {
+                for (SyncFlightKey key : keys) {
+                    Flight flight = findCovering(key);
+                    if (flight == null) {
+                        missing.add(key);
+                    } else {
+                        log.info("[SyncSingleFlight] 진행 중인 연동에 합류: indexInfoId={}, 기간={}~{}",
+                            key.indexInfoId(), key.from(), key.to());
+                        results.add(flight.result().map(jobs -> filter(jobs, key, flight.key())));
+                    }
+                }
+
+                if (!missing.isEmpty()) {
+                    Mono<List<SyncJobDto>> shared = Mono.defer(() -> work.apply(missing))
+                        .doFinally(signal -> release(missing))
+                        .cache();
+                    missing.forEach(key ->
+                        flights.computeIfAbsent(key.indexInfoId(), id -> new ArrayList<>()).add(new Flight(key, shared)));
+                    results.add(0, shared);
+                }
+            }
+
+            return Flux.concat(results)
+                .flatMapIterable(jobs -> jobs)
+                .collectList();
+        });
+    }
+
+    private Flight findCovering(SyncFlightKey key) {
+        for (Flight flight : flights.getOrDefault(key.indexInfoId(), List.of())) {
+            if (flight.key().covers(key)) {
+                return flight;
+            }
+        }
+        return null;
+    }
+
+    private void release(List<SyncFlightKey> keys) {
+        synchronized (flights) {
+            for (SyncFlightKey key : keys) {
+                List<Flight> indexFlights = flights.get(key.indexInfoId());
+                if (indexFlights == null) {
+                    continue;
+                }
+                indexFlights.removeIf(flight -> flight.key().equals(key));
+                if (indexFlights.isEmpty()) {
+                    flights.remove(key.indexInfoId());
+                }
+            }
+        }
+    }
+
+    // 실패/실행 레코드가 빠지면 합류한 쪽이 실패를 성공으로 보게 된다
+    private List<SyncJobDto> filter(List<SyncJobDto> jobs, SyncFlightKey key, SyncFlightKey flightKey) {
+        return jobs.stream()
+            .filter(job -> key.shares(job, flightKey))
+            .toList();
+    }
+
+    private record Flight(SyncFlightKey key, Mono<List<SyncJobDto>> result) {
+
+    }
+}
@@ -0,0 +1,35 @@
+package com.sprint.findex.global.sync;
+
+import com.sprint.findex.dto.response.SyncJobDto;
+import com.sprint.findex.entity.SyncJobResult;
+import java.time.LocalDate;
+
+public record SyncFlightKey(Long indexInfoId, LocalDate from, LocalDate to) {
+
+    public boolean covers(SyncFlightKey other) {
+        return indexInfoId.equals(other.indexInfoId)
+            && !from.isAfter(other.from)
+            && !to.isBefore(other.to);
+    }
+
+    // 이 키를 덮는 진행 중 연동(flight)의 결과 중 이 키에 해당하는 이력인지 판단한다
+    // - 실행 레코드(집계 모드): targetDate ~ targetDateTo 구간이 이 키의 기간과 겹치면 포함
+    // - 지수 전체 실패 이력: flight 요청의 시작일(flight.from)로 남으므로 기간과 상관없이 포함
+    // - 일자별 이력(성공/청크 실패): targetDate가 이 키의 기간 안에 있으면 포함
+    public boolean shares(SyncJobDto job, SyncFlightKey flight) {
+        if (!indexInfoId.equals(job.indexInfoId())) {
+            return false;
+        }
+        LocalDate targetDate = job.targetDate();
+        if (targetDate == null) {
+            return true;
+        }
+        if (job.targetDateTo() != null) {
+            return !targetDate.isAfter(to) && !job.targetDateTo().isBefore(from);
+        }
+        if (job.result() == SyncJobResult.FAILED && targetDate.equals(flight.from())) {
+            return true;
+        }
+        return !targetDate.isBefore(from) && !targetDate.isAfter(to);
+    }
+}
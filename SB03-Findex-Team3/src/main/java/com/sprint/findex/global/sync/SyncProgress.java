@@ -0,0 +1,46 @@
+package com.sprint.findex.global.sync;
+
+import reactor.util.context.ContextView;
+
+// 연동 진행 상황 수집기. 실행 중인 run은 Reactor Context로 전달된다
+public interface SyncProgress {
+
+    Class<SyncProgress> CONTEXT_KEY = SyncProgress.class;
+
+    SyncProgress NONE = new SyncProgress() {
+        @Override
+        public void onFetched(int count) {
+        }
+
+        @Override
+        public void onInserted(int count) {
+        }
+
+        @Override
+        public void onUpdated(int count) {
+        }
+
+        @Override
+        public void onUnchanged(int count) {
+        }
+
+        @Override
+        public void onFailed(int count) {
+        }
+    };
+
+    void onFetched(int count);
+
+    void onInserted(int count);
+
+    void onUpdated(int count);
+
+    // 저장된 값과 같아서 쓰지 않은 건수
+    void onUnchanged(int count);
+
+    void onFailed(int count);
+
+    static SyncProgress from(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, NONE);
+    }
+}
@@ -0,0 +1,97 @@
+package com.sprint.findex.global.sync;
+
+import com.sprint.findex.dto.response.SyncJobDto;
+import com.sprint.findex.dto.response.SyncRunDto;
+import com.sprint.findex.entity.SyncJobType;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+@Getter
+public class SyncRun implements SyncProgress {
+
+    private final String id;
+    // run은 이 노드의 메모리에만 있으므로 조회도 같은 노드로 보내야 한다
+    private final String node;
+    private final SyncJobType jobType;
+    private final OffsetDateTime startedAt;
+
+    private final AtomicLong fetched = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final AtomicLong unchanged = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile SyncRunStatus status = SyncRunStatus.RUNNING;
+    private volatile OffsetDateTime finishedAt;
+    private volatile String errorMessage;
+    private volatile List<SyncJobDto> jobs = List.of();
+
+    public SyncRun(String id, String node, SyncJobType jobType) {
+        this.id = id;
+        this.node = node;
+        this.jobType = jobType;
+        this.startedAt = OffsetDateTime.now();
+    }
+
+    @Override
+    public void onFetched(int count) {
+        fetched.addAndGet(count);
+    }
+
+    @Override
+    public void onInserted(int count) {
+        inserted.addAndGet(count);
+    }
+
+    @Override
+    public void onUpdated(int count) {
+        updated.addAndGet(count);
+    }
+
+    @Override
+    public void onUnchanged(int count) {
+        unchanged.addAndGet(count);
+    }
+
+    @Override
+    public void onFailed(int count) {
+        failed.addAndGet(count);
+    }
+
+    public void complete(List<SyncJobDto> jobs) {
+        this.jobs = List.copyOf(jobs);
+        this.finishedAt = OffsetDateTime.now();
+        this.status = SyncRunStatus.COMPLETED;
+    }
+
+    public void fail(Throwable error) {
+        this.errorMessage = error.getMessage();
+        this.finishedAt = OffsetDateTime.now();
+        this.status = SyncRunStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status != SyncRunStatus.RUNNING;
+    }
+
+    public SyncRunDto toDto() {
+        return new SyncRunDto(
+            id,
+            node,
+            jobType,
+            status,
+            fetched.get(),
+            inserted.get() + updated.get(),
+            inserted.get(),
+            updated.get(),
+            unchanged.get(),
+            failed.get(),
+            startedAt,
+            finishedAt,
+            errorMessage,
+            isFinished() ? jobs : null
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package com.sprint.findex.global.sync;
+
+import com.sprint.findex.dto.response.SyncJobDto;
+import com.sprint.findex.entity.SyncJobType;
+import com.sprint.findex.global.util.IpUtil;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+public class SyncRunRegistry {
+
+    // 노드 메모리에만 보관하므로 다른 노드에서 조회하거나 재시작하면 찾을 수 없다
+    private final Map<String, SyncRun> runs = new ConcurrentHashMap<>();
+    private final String node = IpUtil.getHostName();
+
+    @Value("${sync.run.retention:1h}")
+    private Duration retention;
+
+    // 요청 스레드를 막지 않고 연동을 시작한 뒤 진행 상황을 조회할 수 있는 run을 돌려준다
+    public SyncRun start(SyncJobType jobType, Mono<List<SyncJobDto>> job) {
+        SyncRun run = new SyncRun(UUID.randomUUID().toString(), node, jobType);
+        runs.put(run.getId(), run);
+
+        job.contextWrite(context -> context.put(SyncProgress.CONTEXT_KEY, run))
+            .subscribe(
+                run::complete,
+                error -> {
+                    log.error("[SyncRunRegistry] 연동 실행 실패: runId={}", run.getId(), error);
+                    run.fail(error);
+                }
+            );
+
+        log.info("[SyncRunRegistry] 연동 실행 시작: runId={}, jobType={}", run.getId(), jobType);
+        return run;
+    }
+
+    public Optional<SyncRun> find(String runId) {
+        return Optional.ofNullable(runs.get(runId));
+    }
+
+    // 끝난 지 retention 이상 지난 run은 메모리에서 정리한다
+    @Scheduled(fixedDelayString = "${sync.run.cleanup-interval:10m}")
+    public void evictFinishedRuns() {
+        OffsetDateTime threshold = OffsetDateTime.now().minus(retention);
+        runs.values().removeIf(run -> run.isFinished() && run.getFinishedAt().isBefore(threshold));
+    }
+}
@@ -0,0 +1,7 @@
+package com.sprint.findex.global.sync;
+
+public enum SyncRunStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
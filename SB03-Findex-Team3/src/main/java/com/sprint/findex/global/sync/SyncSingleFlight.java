@@ -0,0 +1,17 @@
+package com.sprint.findex.global.sync;
+
+import com.sprint.findex.dto.response.SyncJobDto;
+import java.util.List;
+import java.util.function.Function;
+import reactor.core.publisher.Mono;
+
+// 같은 지수, 겹치는 기간의 연동이 동시에 들어오면 진행 중인 작업 하나에 합류시킨다
+// 지금은 프로세스 안에서만 합치며, 여러 노드에서 합치려면 DB 기반 구현으로 바꾸면 된다
+public interface SyncSingleFlight {
+
+    // 진행 중인 작업이 기간을 포함하는 key는 그 결과를 받고, 나머지 key만 work로 새로 실행한다
+    Mono<List<SyncJobDto>> execute(
+        List<SyncFlightKey> keys,
+        Function<List<SyncFlightKey>, Mono<List<SyncJobDto>>> work
+    );
+}
@@ -1,8 +1,17 @@
 package com.sprint.findex.global.util;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.net.InetAddress;
 
 public class IpUtil {
+
+    public static String getHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
   
     public static String getClientIp(HttpServletRequest request) {
 
@@ -15,7 +15,12 @@ public class SyncJobMapper {
             syncJob.getTargetDate(),
             syncJob.getWorker(),
             syncJob.getJobTime(),
-            syncJob.getResult()
+            syncJob.getResult(),
+            syncJob.getTargetDateTo(),
+            syncJob.getInsertedCount(),
+            syncJob.getUpdatedCount(),
+            syncJob.getUnchangedCount(),
+            syncJob.getFailedCount()
         );
     }
 }
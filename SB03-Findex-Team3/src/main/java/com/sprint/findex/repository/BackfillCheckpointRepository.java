@@ -0,0 +1,21 @@
+package com.sprint.findex.repository;
+
+import com.sprint.findex.entity.BackfillCheckpoint;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BackfillCheckpointRepository extends JpaRepository<BackfillCheckpoint, Long> {
+
+    @Query("SELECT c.indexInfo.id FROM BackfillCheckpoint c " +
+        "WHERE c.chunkFrom = :chunkFrom AND c.chunkTo = :chunkTo AND c.indexInfo.id IN :indexInfoIds")
+    List<Long> findCompletedIndexInfoIds(
+        @Param("chunkFrom") LocalDate chunkFrom,
+        @Param("chunkTo") LocalDate chunkTo,
+        @Param("indexInfoIds") Collection<Long> indexInfoIds);
+}
@@ -0,0 +1,178 @@
+package com.sprint.findex.repository;
+
+import com.sprint.findex.entity.SourceType;
+import com.sprint.findex.entity.SyncJobResult;
+import com.sprint.findex.entity.SyncJobType;
+import com.sprint.findex.global.dto.MarketIndexResponse.MarketIndexData;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class IndexDataBulkRepository {
+
+    private static final String UPSERT_INDEX_DATA_PREFIX =
+        "INSERT INTO index_data (id, index_info_id, base_date, source_type, market_price, closing_price, " +
+            "high_price, low_price, versus, fluctuation_rate, trading_quantity, trading_price, " +
+            "market_total_amount) VALUES ";
+
+    private static final String UPSERT_INDEX_DATA_ROW =
+        "(nextval('index_data_seq'), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_INDEX_DATA_SUFFIX =
+        " ON CONFLICT (index_info_id, base_date) DO UPDATE SET " +
+            "market_price = EXCLUDED.market_price, " +
+            "closing_price = EXCLUDED.closing_price, " +
+            "high_price = EXCLUDED.high_price, " +
+            "low_price = EXCLUDED.low_price, " +
+            "versus = EXCLUDED.versus, " +
+            "fluctuation_rate = EXCLUDED.fluctuation_rate, " +
+            "trading_quantity = EXCLUDED.trading_quantity, " +
+            "trading_price = EXCLUDED.trading_price, " +
+            "market_total_amount = EXCLUDED.market_total_amount " +
+            // 값이 하나도 바뀌지 않은 행은 갱신하지 않는다 (새 튜플/WAL이 생기지 않음)
+            "WHERE (index_data.market_price, index_data.closing_price, index_data.high_price, " +
+            "index_data.low_price, index_data.versus, index_data.fluctuation_rate, " +
+            "index_data.trading_quantity, index_data.trading_price, index_data.market_total_amount) " +
+            "IS DISTINCT FROM (EXCLUDED.market_price, EXCLUDED.closing_price, EXCLUDED.high_price, " +
+            "EXCLUDED.low_price, EXCLUDED.versus, EXCLUDED.fluctuation_rate, " +
+            "EXCLUDED.trading_quantity, EXCLUDED.trading_price, EXCLUDED.market_total_amount) " +
+            // xmax = 0 이면 새로 insert된 행, 아니면 update된 행. 변경 없는 행은 반환되지 않는다
+            "RETURNING base_date, (xmax = 0) AS inserted";
+
+    private static final String INSERT_SYNC_JOB_PREFIX =
+        "INSERT INTO sync_job (id, job_type, index_info_id, target_date, worker, job_time, result, " +
+            "inserted_count, updated_count, unchanged_count, failed_count) VALUES ";
+
+    private static final String INSERT_SYNC_JOB_ROW = "(nextval('sync_job_seq'), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SYNC_RUN =
+        "INSERT INTO sync_job (id, job_type, index_info_id, target_date, target_date_to, worker, job_time, result, " +
+            "inserted_count, updated_count, unchanged_count, failed_count) " +
+            "VALUES (nextval('sync_job_seq'), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) RETURNING id";
+
+    // PostgreSQL은 한 문장에 바인드 파라미터를 32767개까지만 받는다 (upsert는 행당 12개)
+    public static final int MAX_ROWS_PER_STATEMENT = 32767 / 12;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 번의 multi-row INSERT ... ON CONFLICT 로 지수 데이터를 저장/갱신하고 실제로 쓰인 행만 돌려준다
+    public List<UpsertedRow> upsertIndexData(Long indexInfoId, Map<LocalDate, MarketIndexData> itemsByDate) {
+        if (itemsByDate.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> args = new ArrayList<>(itemsByDate.size() * 12);
+        List<String> rows = new ArrayList<>(itemsByDate.size());
+
+        itemsByDate.forEach((baseDate, item) -> {
+            rows.add(UPSERT_INDEX_DATA_ROW);
+            args.add(new SqlParameterValue(Types.BIGINT, indexInfoId));
+            args.add(new SqlParameterValue(Types.DATE, baseDate));
+            args.add(new SqlParameterValue(Types.VARCHAR, SourceType.OPEN_API.name()));
+            args.add(new SqlParameterValue(Types.NUMERIC, item.getMkp()));
+            args.add(new SqlParameterValue(Types.NUMERIC, item.getClpr()));
+            args.add(new SqlParameterValue(Types.NUMERIC, item.getHipr()));
+            args.add(new SqlParameterValue(Types.NUMERIC, item.getLopr()));
+            args.add(new SqlParameterValue(Types.NUMERIC, item.getVs()));
+            args.add(new SqlParameterValue(Types.NUMERIC, item.getFltRt()));
+            args.add(new SqlParameterValue(Types.BIGINT, item.getTrqu()));
+            args.add(new SqlParameterValue(Types.BIGINT, item.getTrPrc()));
+            args.add(new SqlParameterValue(Types.BIGINT, item.getLstgMrktTotAmt()));
+        });
+
+        String sql = UPSERT_INDEX_DATA_PREFIX + String.join(", ", rows) + UPSERT_INDEX_DATA_SUFFIX;
+        return jdbcTemplate.query(sql,
+            (rs, rowNum) -> new UpsertedRow(rs.getObject("base_date", LocalDate.class), rs.getBoolean("inserted")),
+            args.toArray());
+    }
+
+    // 일자별 연동 이력을 남기고 생성된 id를 targetDate, 결과와 함께 돌려준다
+    // 건수 컬럼은 그 일자의 결과에 해당하는 것만 1이다
+    public List<SyncJobRow> insertSyncJobs(
+        SyncJobType jobType,
+        Long indexInfoId,
+        Map<LocalDate, WriteOutcome> outcomesByDate,
+        String worker,
+        OffsetDateTime jobTime
+    ) {
+        if (outcomesByDate.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> args = new ArrayList<>(outcomesByDate.size() * 10);
+        List<String> rows = new ArrayList<>(outcomesByDate.size());
+
+        outcomesByDate.forEach((targetDate, outcome) -> {
+            rows.add(INSERT_SYNC_JOB_ROW);
+            args.add(new SqlParameterValue(Types.VARCHAR, jobType.name()));
+            args.add(new SqlParameterValue(Types.BIGINT, indexInfoId));
+            args.add(new SqlParameterValue(Types.DATE, targetDate));
+            args.add(new SqlParameterValue(Types.VARCHAR, worker));
+            args.add(new SqlParameterValue(Types.TIMESTAMP_WITH_TIMEZONE, jobTime));
+            args.add(new SqlParameterValue(Types.VARCHAR, outcome.result().name()));
+            args.add(new SqlParameterValue(Types.INTEGER, outcome == WriteOutcome.INSERTED ? 1 : 0));
+            args.add(new SqlParameterValue(Types.INTEGER, outcome == WriteOutcome.UPDATED ? 1 : 0));
+            args.add(new SqlParameterValue(Types.INTEGER, outcome == WriteOutcome.UNCHANGED ? 1 : 0));
+            args.add(new SqlParameterValue(Types.INTEGER, outcome == WriteOutcome.FAILED ? 1 : 0));
+        });
+
+        String sql = INSERT_SYNC_JOB_PREFIX + String.join(", ", rows) + " RETURNING id, target_date";
+        return jdbcTemplate.query(sql,
+            (rs, rowNum) -> {
+                LocalDate targetDate = rs.getObject("target_date", LocalDate.class);
+                return new SyncJobRow(rs.getLong("id"), targetDate, outcomesByDate.get(targetDate));
+            },
+            args.toArray());
+    }
+
+    // 집계 모드: 지수/기간당 한 건의 실행 레코드를 남기고 id를 돌려준다
+    public Long insertSyncRun(
+        Long indexInfoId,
+        LocalDate targetDateFrom,
+        LocalDate targetDateTo,
+        String worker,
+        OffsetDateTime jobTime,
+        SyncJobResult result,
+        int inserted,
+        int updated,
+        int unchanged,
+        int failed
+    ) {
+        return jdbcTemplate.queryForObject(INSERT_SYNC_RUN, Long.class,
+            new SqlParameterValue(Types.VARCHAR, SyncJobType.INDEX_DATA.name()),
+            new SqlParameterValue(Types.BIGINT, indexInfoId),
+            new SqlParameterValue(Types.DATE, targetDateFrom),
+            new SqlParameterValue(Types.DATE, targetDateTo),
+            new SqlParameterValue(Types.VARCHAR, worker),
+            new SqlParameterValue(Types.TIMESTAMP_WITH_TIMEZONE, jobTime),
+            new SqlParameterValue(Types.VARCHAR, result.name()),
+            new SqlParameterValue(Types.INTEGER, inserted),
+            new SqlParameterValue(Types.INTEGER, updated),
+            new SqlParameterValue(Types.INTEGER, unchanged),
+            new SqlParameterValue(Types.INTEGER, failed));
+    }
+
+    public record SyncJobRow(Long id, LocalDate targetDate, WriteOutcome outcome) {
+    }
+
+    // 일자별 저장 결과
+    public enum WriteOutcome {
+        INSERTED, UPDATED, UNCHANGED, FAILED;
+
+        public SyncJobResult result() {
+            return this == FAILED ? SyncJobResult.FAILED : SyncJobResult.SUCCESS;
+        }
+    }
+
+    public record UpsertedRow(LocalDate baseDate, boolean inserted) {
+    }
+}
@@ -1,9 +1,9 @@
 package com.sprint.findex.repository;
 
+import com.sprint.findex.dto.dashboard.IndexClosePrice;
 import com.sprint.findex.entity.IndexData;
-import com.sprint.findex.entity.IndexInfo;
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -12,18 +12,18 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface IndexDataRepository extends JpaRepository<IndexData, Long>,
-    JpaSpecificationExecutor<IndexData> {
+    JpaSpecificationExecutor<IndexData>, IndexDataRepositoryCustom {
 
-    Optional<IndexData> findTopByIndexInfoIdOrderByBaseDateDesc(Long id);
-
-    Optional<IndexData> findByIndexInfoAndBaseDate(IndexInfo indexInfo, LocalDate baseDate);
-      
-    @Query(value = "SELECT * FROM index_data i " +
-        "WHERE i.index_info_id = :indexInfoId " +
-        "AND i.base_date <= :baseDate " +
-        "ORDER BY i.base_date DESC LIMIT 1",
-        nativeQuery = true)
-    Optional<IndexData> findByIndexInfoIdAndBaseDateOnlyDateMatch(
+    // startDate 이전의 가장 최근 거래일부터 endDate까지를 한 번의 범위 조회로 가져온다
+    @Query("SELECT new com.sprint.findex.dto.dashboard.IndexClosePrice(d.baseDate, d.closingPrice) " +
+        "FROM IndexData d " +
+        "WHERE d.indexInfo.id = :indexInfoId " +
+        "AND d.baseDate <= :endDate " +
+        "AND d.baseDate >= (SELECT COALESCE(MAX(s.baseDate), :startDate) FROM IndexData s " +
+        "WHERE s.indexInfo.id = :indexInfoId AND s.baseDate <= :startDate) " +
+        "ORDER BY d.baseDate ASC")
+    List<IndexClosePrice> findClosePricesForChart(
         @Param("indexInfoId") Long indexInfoId,
-        @Param("baseDate") LocalDate baseDate);
-}
\ No newline at end of file
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,13 @@
+package com.sprint.findex.repository;
+
+import com.sprint.findex.dto.response.IndexDataDto;
+import com.sprint.findex.entity.IndexData;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface IndexDataRepositoryCustom {
+
+    // 트랜잭션 안에서 소비하고 반드시 close 해야 한다
+    Stream<IndexDataDto> streamAllAsDto(Specification<IndexData> spec, Sort sort, int fetchSize);
+}
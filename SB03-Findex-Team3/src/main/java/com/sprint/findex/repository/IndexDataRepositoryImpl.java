@@ -0,0 +1,55 @@
+package com.sprint.findex.repository;
+
+import com.sprint.findex.dto.response.IndexDataDto;
+import com.sprint.findex.entity.IndexData;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.stream.Stream;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+public class IndexDataRepositoryImpl implements IndexDataRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<IndexDataDto> streamAllAsDto(Specification<IndexData> spec, Sort sort, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<IndexDataDto> query = cb.createQuery(IndexDataDto.class);
+        Root<IndexData> root = query.from(IndexData.class);
+
+        // 엔티티 대신 DTO로 바로 조회해 영속성 컨텍스트와 IndexInfo 즉시 로딩을 피한다
+        query.select(cb.construct(IndexDataDto.class,
+            root.get("id"),
+            root.get("baseDate"),
+            root.get("sourceType"),
+            root.get("closingPrice"),
+            root.get("marketPrice"),
+            root.get("highPrice"),
+            root.get("lowPrice"),
+            root.get("versus"),
+            root.get("fluctuationRate"),
+            root.get("tradingQuantity"),
+            root.get("tradingPrice"),
+            root.get("marketTotalAmount")
+        ));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+            .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(AvailableHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+}
@@ -0,0 +1,74 @@
+package com.sprint.findex.repository;
+
+import com.sprint.findex.entity.IndexPerformanceSnapshot;
+import com.sprint.findex.entity.Period;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IndexPerformanceSnapshotRepository extends JpaRepository<IndexPerformanceSnapshot, Long> {
+
+    @Query("SELECT s FROM IndexPerformanceSnapshot s JOIN FETCH s.indexInfo i " +
+        "WHERE s.period = :period AND i.favorite = true " +
+        "ORDER BY i.id ASC")
+    List<IndexPerformanceSnapshot> findFavorites(@Param("period") Period period);
+
+    @Query("SELECT s FROM IndexPerformanceSnapshot s JOIN FETCH s.indexInfo i " +
+        "WHERE s.period = :period " +
+        "AND (:indexInfoId IS NULL OR i.id = :indexInfoId) " +
+        "ORDER BY s.fluctuationRate DESC, i.id ASC")
+    List<IndexPerformanceSnapshot> findRank(
+        @Param("period") Period period,
+        @Param("indexInfoId") Long indexInfoId,
+        Pageable pageable);
+
+    // 트랜잭션이 끝나면 풀리는 advisory lock. 다른 노드가 전체 갱신 중이면 false
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    boolean tryLock(@Param("lockKey") long lockKey);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM index_performance_snapshot s " +
+        "WHERE s.period = :period " +
+        "AND (CAST(:indexInfoId AS BIGINT) IS NULL OR s.index_info_id = :indexInfoId)",
+        nativeQuery = true)
+    int deleteScope(
+        @Param("period") String period,
+        @Param("indexInfoId") Long indexInfoId);
+
+    // 지수별 최신 종가와 baseDate 시점 종가로 스냅샷을 다시 계산한다 (indexInfoId가 null이면 전체 지수)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO index_performance_snapshot " +
+        "(id, index_info_id, period, base_date, current_price, before_price, versus, fluctuation_rate, refreshed_at) " +
+        "SELECT nextval('index_performance_snapshot_seq'), i.id, :period, :baseDate, cur.closing_price, bef.closing_price, " +
+        "cur.closing_price - bef.closing_price, " +
+        "ROUND((cur.closing_price - bef.closing_price) / bef.closing_price, 4) * 100, " +
+        "now() " +
+        "FROM index_info i " +
+        "JOIN LATERAL (SELECT d.closing_price FROM index_data d " +
+        "WHERE d.index_info_id = i.id " +
+        "ORDER BY d.base_date DESC LIMIT 1) cur ON TRUE " +
+        "JOIN LATERAL (SELECT d.closing_price FROM index_data d " +
+        "WHERE d.index_info_id = i.id AND d.base_date <= :baseDate " +
+        "ORDER BY d.base_date DESC LIMIT 1) bef ON TRUE " +
+        "WHERE (CAST(:indexInfoId AS BIGINT) IS NULL OR i.id = :indexInfoId) " +
+        "AND cur.closing_price IS NOT NULL " +
+        "AND bef.closing_price IS NOT NULL AND bef.closing_price <> 0 " +
+        "ON CONFLICT (index_info_id, period) DO UPDATE SET " +
+        "base_date = EXCLUDED.base_date, " +
+        "current_price = EXCLUDED.current_price, " +
+        "before_price = EXCLUDED.before_price, " +
+        "versus = EXCLUDED.versus, " +
+        "fluctuation_rate = EXCLUDED.fluctuation_rate, " +
+        "refreshed_at = EXCLUDED.refreshed_at",
+        nativeQuery = true)
+    int upsertScope(
+        @Param("period") String period,
+        @Param("baseDate") LocalDate baseDate,
+        @Param("indexInfoId") Long indexInfoId);
+}
@@ -0,0 +1,12 @@
+package com.sprint.findex.repository;
+
+import com.sprint.findex.entity.ScheduledRun;
+import java.time.LocalDate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScheduledRunRepository extends JpaRepository<ScheduledRun, Long> {
+
+    boolean existsByTaskNameAndRunDate(String taskName, LocalDate runDate);
+}
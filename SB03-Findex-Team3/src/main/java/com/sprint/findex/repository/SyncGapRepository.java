@@ -0,0 +1,62 @@
+package com.sprint.findex.repository;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class SyncGapRepository {
+
+    // 거래일 달력: 평일 중 어느 지수에든 데이터가 있는 날 + 마지막 저장일 이후의 평일
+    // (모든 지수에 데이터가 없는 평일은 휴장일로 보고 다시 조회하지 않는다)
+    // 연속된 누락 거래일은 gaps-and-islands로 하나의 구간으로 묶는다
+    private static final String FIND_GAPS =
+        "WITH bounds AS (" +
+            "SELECT MAX(base_date) AS last_stored FROM index_data " +
+            "WHERE base_date BETWEEN ? AND ?" +
+        "), calendar AS (" +
+            "SELECT d::date AS trade_date, ROW_NUMBER() OVER (ORDER BY d) AS seq " +
+            "FROM generate_series(?::date, ?::date, INTERVAL '1 day') AS d, bounds b " +
+            "WHERE EXTRACT(ISODOW FROM d) < 6 " +
+            "AND (b.last_stored IS NULL OR d::date > b.last_stored " +
+            "OR EXISTS (SELECT 1 FROM index_data x WHERE x.base_date = d::date))" +
+        "), missing AS (" +
+            "SELECT a.index_info_id, c.trade_date, " +
+            "c.seq - ROW_NUMBER() OVER (PARTITION BY a.index_info_id ORDER BY c.seq) AS island " +
+            "FROM auto_sync a CROSS JOIN calendar c " +
+            "WHERE a.enabled = true " +
+            "AND NOT EXISTS (SELECT 1 FROM index_data i " +
+            "WHERE i.index_info_id = a.index_info_id AND i.base_date = c.trade_date)" +
+        ") " +
+        "SELECT index_info_id, MIN(trade_date) AS gap_from, MAX(trade_date) AS gap_to " +
+        "FROM missing " +
+        "GROUP BY index_info_id, island " +
+        "ORDER BY index_info_id, gap_from";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 자동 연동이 켜진 지수별로 [from, to] 안에서 index_data에 없는 거래일 구간을 한 번의 조회로 구한다
+    public List<SyncGap> findGaps(LocalDate from, LocalDate to) {
+        SqlParameterValue fromArg = new SqlParameterValue(Types.DATE, from);
+        SqlParameterValue toArg = new SqlParameterValue(Types.DATE, to);
+
+        return jdbcTemplate.query(
+            FIND_GAPS,
+            (rs, rowNum) -> new SyncGap(
+                rs.getLong("index_info_id"),
+                rs.getObject("gap_from", LocalDate.class),
+                rs.getObject("gap_to", LocalDate.class)
+            ),
+            fromArg, toArg, fromArg, toArg
+        );
+    }
+
+    public record SyncGap(Long indexInfoId, LocalDate from, LocalDate to) {
+
+    }
+}
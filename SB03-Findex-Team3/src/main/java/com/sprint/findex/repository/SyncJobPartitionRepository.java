@@ -0,0 +1,122 @@
+package com.sprint.findex.repository;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// sync_job은 job_time 기준 월별 RANGE 파티션 테이블이다 (파티션 이름: sync_job_pYYYYMM)
+@Repository
+@RequiredArgsConstructor
+public class SyncJobPartitionRepository {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("sync_job_p(\\d{4})(\\d{2})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String IS_PARTITIONED =
+        "SELECT EXISTS (SELECT 1 FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace " +
+            "WHERE c.relname = 'sync_job' AND n.nspname = current_schema() AND c.relkind = 'p')";
+
+    private static final String FIND_PARTITIONS =
+        "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "JOIN pg_namespace n ON n.oid = p.relnamespace " +
+            "WHERE p.relname = 'sync_job' AND n.nspname = current_schema()";
+
+    // schema.sql의 sync_job과 같은 정의 (ddl-auto가 만든 빈 테이블을 바꿀 때 쓴다)
+    private static final String CREATE_PARTITIONED_TABLE =
+        "CREATE TABLE sync_job (" +
+            "id BIGINT NOT NULL DEFAULT nextval('sync_job_seq'), " +
+            "index_info_id BIGINT, " +
+            "job_type VARCHAR(10) NOT NULL, " +
+            "target_date DATE, " +
+            "worker VARCHAR(15) NOT NULL, " +
+            "job_time TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP NOT NULL, " +
+            "result VARCHAR(10) NOT NULL, " +
+            "target_date_to DATE, " +
+            "inserted_count INT, " +
+            "updated_count INT, " +
+            "unchanged_count INT, " +
+            "failed_count INT, " +
+            "PRIMARY KEY (id, job_time), " +
+            "FOREIGN KEY (index_info_id) REFERENCES index_info (id) ON DELETE CASCADE, " +
+            "CONSTRAINT result_check CHECK (result IN ('SUCCESS', 'FAILED')), " +
+            "CONSTRAINT chk_sync_job_type CHECK (job_type IN ('INDEX_INFO', 'INDEX_DATA'))" +
+            ") PARTITION BY RANGE (job_time)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED, Boolean.class));
+    }
+
+    public boolean isEmpty() {
+        return Boolean.TRUE.equals(
+            jdbcTemplate.queryForObject("SELECT NOT EXISTS (SELECT 1 FROM sync_job)", Boolean.class));
+    }
+
+    // 비어 있는 일반 테이블을 같은 정의의 파티션 테이블로 다시 만든다. 파티션은 따로 만들어야 한다
+    public void recreateAsPartitioned() {
+        jdbcTemplate.execute("LOCK TABLE sync_job IN ACCESS EXCLUSIVE MODE");
+        jdbcTemplate.execute("DROP TABLE sync_job");
+        jdbcTemplate.execute(CREATE_PARTITIONED_TABLE);
+        jdbcTemplate.execute("CREATE INDEX idx_sync_job_job_time ON sync_job (job_time, id)");
+        jdbcTemplate.execute("CREATE INDEX idx_sync_job_target_date ON sync_job (target_date, id)");
+        jdbcTemplate.execute("CREATE INDEX idx_sync_job_index_info ON sync_job (index_info_id, job_time)");
+    }
+
+    // 트랜잭션이 끝나면 풀리는 advisory lock. 다른 노드가 잡고 있으면 풀릴 때까지 기다린다
+    public void lock(long lockKey) {
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?)::text", String.class, lockKey);
+    }
+
+    // 트랜잭션이 끝나면 풀리는 advisory lock. 다른 노드가 관리 중이면 false
+    public boolean tryLock(long lockKey) {
+        return Boolean.TRUE.equals(
+            jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, lockKey));
+    }
+
+    public void createPartition(YearMonth month, ZoneId zone) {
+        OffsetDateTime from = month.atDay(1).atStartOfDay(zone).toOffsetDateTime();
+        OffsetDateTime to = month.plusMonths(1).atDay(1).atStartOfDay(zone).toOffsetDateTime();
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF sync_job " +
+            "FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+    }
+
+    // 기본 파티션 등 이름 규칙에 맞지 않는 파티션은 제외한다
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS, String.class).stream()
+            .map(this::parseMonth)
+            .flatMap(Optional::stream)
+            .sorted()
+            .toList();
+    }
+
+    public void detachPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE sync_job DETACH PARTITION " + partitionName(month));
+    }
+
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName(month));
+    }
+
+    public String partitionName(YearMonth month) {
+        return "sync_job_p" + month.format(PARTITION_SUFFIX);
+    }
+
+    private Optional<YearMonth> parseMonth(String name) {
+        Matcher matcher = PARTITION_NAME.matcher(name);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+    }
+}
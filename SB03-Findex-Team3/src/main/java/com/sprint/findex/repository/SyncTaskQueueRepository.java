@@ -0,0 +1,123 @@
+package com.sprint.findex.repository;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class SyncTaskQueueRepository {
+
+    // 같은 지수, 같은 기간의 작업이 이미 대기/실행 중이면 다시 등록하지 않는다
+    private static final String ENQUEUE =
+        "INSERT INTO sync_task (id, index_info_id, range_from, range_to, status, attempts, created_at, updated_at) " +
+            "SELECT nextval('sync_task_seq'), ?, ?, ?, 'PENDING', 0, now(), now() " +
+            "WHERE NOT EXISTS (SELECT 1 FROM sync_task t " +
+            "WHERE t.index_info_id = ? AND t.range_from = ? AND t.range_to = ? " +
+            "AND t.status IN ('PENDING', 'RUNNING'))";
+
+    // 대기 중이거나 임대가 만료된 작업을 SKIP LOCKED로 선점한다
+    // 다른 노드가 잠근 행은 건너뛰므로 노드끼리 같은 작업을 잡지 않는다
+    private static final String CLAIM =
+        "UPDATE sync_task t SET status = 'RUNNING', lease_owner = ?, " +
+            "lease_expires_at = now() + (? * INTERVAL '1 second'), " +
+            "attempts = t.attempts + 1, updated_at = now() " +
+            "WHERE t.id IN (" +
+            "SELECT id FROM sync_task " +
+            "WHERE (status = 'PENDING' OR (status = 'RUNNING' AND lease_expires_at < now())) " +
+            "AND attempts < ? " +
+            "ORDER BY id " +
+            "LIMIT ? " +
+            "FOR UPDATE SKIP LOCKED" +
+            ") " +
+            "RETURNING t.id, t.index_info_id, t.range_from, t.range_to, t.attempts";
+
+    // 처리 직전에 임대를 다시 늘린다. 아직 이 노드가 임대 중인 작업만 돌려준다
+    private static final String RENEW_PREFIX =
+        "UPDATE sync_task SET lease_expires_at = now() + (? * INTERVAL '1 second'), updated_at = now() " +
+            "WHERE status = 'RUNNING' AND lease_owner = ? AND id IN (";
+
+    private static final String COMPLETE =
+        "UPDATE sync_task SET status = 'DONE', lease_owner = NULL, lease_expires_at = NULL, " +
+            "last_error = NULL, updated_at = now() " +
+            "WHERE id = ? AND lease_owner = ?";
+
+    // 재시도 횟수가 남아 있으면 다시 대기 상태로 돌린다
+    private static final String FAIL =
+        "UPDATE sync_task SET status = CASE WHEN attempts >= ? THEN 'FAILED' ELSE 'PENDING' END, " +
+            "lease_owner = NULL, lease_expires_at = NULL, last_error = ?, updated_at = now() " +
+            "WHERE id = ? AND lease_owner = ?";
+
+    // 재시도 횟수를 모두 쓴 채 임대가 만료된 작업은 실패로 정리한다
+    private static final String EXPIRE_EXHAUSTED =
+        "UPDATE sync_task SET status = 'FAILED', lease_owner = NULL, lease_expires_at = NULL, " +
+            "last_error = 'lease expired', updated_at = now() " +
+            "WHERE status = 'RUNNING' AND lease_expires_at < now() AND attempts >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int enqueue(Long indexInfoId, LocalDate rangeFrom, LocalDate rangeTo) {
+        SqlParameterValue indexArg = new SqlParameterValue(Types.BIGINT, indexInfoId);
+        SqlParameterValue fromArg = new SqlParameterValue(Types.DATE, rangeFrom);
+        SqlParameterValue toArg = new SqlParameterValue(Types.DATE, rangeTo);
+
+        return jdbcTemplate.update(ENQUEUE, indexArg, fromArg, toArg, indexArg, fromArg, toArg);
+    }
+
+    public List<ClaimedTask> claim(String owner, long leaseSeconds, int maxAttempts, int limit) {
+        return jdbcTemplate.query(
+            CLAIM,
+            (rs, rowNum) -> new ClaimedTask(
+                rs.getLong("id"),
+                rs.getLong("index_info_id"),
+                rs.getObject("range_from", LocalDate.class),
+                rs.getObject("range_to", LocalDate.class),
+                rs.getInt("attempts")
+            ),
+            owner, leaseSeconds, maxAttempts, limit
+        );
+    }
+
+    public List<Long> renew(List<Long> taskIds, String owner, long leaseSeconds) {
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> args = new ArrayList<>(taskIds.size() + 2);
+        args.add(leaseSeconds);
+        args.add(owner);
+        args.addAll(taskIds);
+
+        String sql = RENEW_PREFIX + String.join(", ", Collections.nCopies(taskIds.size(), "?")) + ") RETURNING id";
+        return jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+    }
+
+    public boolean complete(Long taskId, String owner) {
+        return jdbcTemplate.update(COMPLETE, taskId, owner) > 0;
+    }
+
+    public boolean fail(Long taskId, String owner, String error, int maxAttempts) {
+        return jdbcTemplate.update(FAIL, maxAttempts, truncate(error), taskId, owner) > 0;
+    }
+
+    public int expireExhausted(int maxAttempts) {
+        return jdbcTemplate.update(EXPIRE_EXHAUSTED, maxAttempts);
+    }
+
+    private String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    public record ClaimedTask(Long id, Long indexInfoId, LocalDate rangeFrom, LocalDate rangeTo, int attempts) {
+
+    }
+}
@@ -9,6 +9,7 @@ import com.sprint.findex.dto.request.IndexDataUpdateRequest;
 import com.sprint.findex.dto.response.cursor.CursorPageResponseIndexData;
 import com.sprint.findex.dto.response.IndexDataDto;
 import com.sprint.findex.entity.Period;
+import java.io.OutputStream;
 import java.util.List;
 import org.springframework.stereotype.Service;
 
@@ -23,7 +24,7 @@ public interface IndexDataService {
 
     CursorPageResponseIndexData<IndexDataDto> findByCursor(IndexDataQueryParams params);
 
-    List<IndexDataDto> findAllByConditions(IndexDataQueryParams params);
+    void exportCsv(IndexDataQueryParams params, OutputStream outputStream);
 
     List<IndexPerformanceDto> getFavoriteIndexPerformances(Period period);
 
@@ -0,0 +1,14 @@
+package com.sprint.findex.service;
+
+import com.sprint.findex.dto.dashboard.IndexPerformanceDto;
+import com.sprint.findex.entity.Period;
+import java.util.List;
+
+public interface IndexPerformanceSnapshotService {
+
+    List<IndexPerformanceDto> findFavorites(Period period);
+
+    List<IndexPerformanceDto> findRank(Long indexInfoId, Period period, int limit);
+
+    void refresh(Long indexInfoId);
+}
@@ -1,5 +1,6 @@
 package com.sprint.findex.service;
 
+import com.sprint.findex.dto.request.IndexDataBackfillRequest;
 import com.sprint.findex.dto.request.IndexDataSyncRequest;
 import com.sprint.findex.dto.request.SyncJobQueryParams;
 import com.sprint.findex.dto.response.cursor.CursorPageResponseSyncJobDto;
@@ -10,6 +11,12 @@ import reactor.core.publisher.Mono;
 public interface SyncJobService {
     Mono<List<SyncJobDto>> fetchAndSaveIndexData(IndexDataSyncRequest request, String workerIp);
 
+    // 여러 지수를 기간 단위로 한 번에 조회해 지수별로 나눠 저장한다
+    Mono<List<SyncJobDto>> fetchAndSaveIndexDataMarketWide(IndexDataSyncRequest request, String workerIp);
+
+    // 긴 기간을 월/연 단위 청크로 나눠 저장하고, 끝난 청크는 체크포인트로 남겨 재요청 시 이어서 진행한다
+    Mono<List<SyncJobDto>> backfillIndexData(IndexDataBackfillRequest request, String workerIp);
+
     Mono<List<SyncJobDto>> fetchAllIndexInfo(String workerIp);
 
     CursorPageResponseSyncJobDto findSyncJobByCursor(SyncJobQueryParams params);
@@ -9,6 +9,7 @@ import com.sprint.findex.dto.dashboard.RankedIndexPerformanceDto;
 import com.sprint.findex.dto.request.IndexDataCreateRequest;
 import com.sprint.findex.dto.request.IndexDataQueryParams;
 import com.sprint.findex.dto.request.IndexDataUpdateRequest;
+import com.sprint.findex.dto.response.IndexDataCsvExporter;
 import com.sprint.findex.dto.response.IndexDataDto;
 import com.sprint.findex.dto.response.cursor.CursorPageResponseIndexData;
 import com.sprint.findex.entity.IndexData;
@@ -16,30 +17,36 @@ import com.sprint.findex.entity.IndexInfo;
 import com.sprint.findex.entity.Period;
 import com.sprint.findex.entity.SourceType;
 import com.sprint.findex.global.exception.CommonException;
+import com.sprint.findex.global.config.CacheConfig;
+import com.sprint.findex.global.event.IndexDataChangedEvent;
 import com.sprint.findex.global.exception.Errors;
 import com.sprint.findex.mapper.IndexDataMapper;
 import com.sprint.findex.repository.IndexDataRepository;
 import com.sprint.findex.repository.IndexInfoRepository;
 import com.sprint.findex.service.IndexDataService;
+import com.sprint.findex.service.IndexPerformanceSnapshotService;
 import com.sprint.findex.specification.IndexDataSpecifications;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Base64;
-import java.util.Comparator;
-import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -55,10 +62,14 @@ public class BasicIndexDataService implements IndexDataService {
     private static final String DEFAULT_SORT_FIELD = "baseDate";
     private static final String DEFAULT_SORT_DIRECTION = "desc";
     private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int EXPORT_FETCH_SIZE = 1000;
 
     private final IndexInfoRepository indexInfoRepository;
     private final IndexDataRepository indexDataRepository;
     private final IndexDataMapper indexDataMapper;
+    private final IndexChartEngine indexChartEngine;
+    private final IndexPerformanceSnapshotService indexPerformanceSnapshotService;
+    private final ApplicationEventPublisher eventPublisher;
 
     static final int MA5DATA_NUM = 5;
     static final int MA20DATA_NUM = 20;
@@ -71,7 +82,10 @@ public class BasicIndexDataService implements IndexDataService {
             .orElseThrow(() -> new CommonException(Errors.INDEX_INFO_NOT_FOUND));
 
         IndexData indexData = IndexData.from(indexInfo, request, SourceType.USER);
-        return indexDataMapper.toDto(indexDataRepository.save(indexData));
+        IndexDataDto saved = indexDataMapper.toDto(indexDataRepository.save(indexData));
+
+        eventPublisher.publishEvent(new IndexDataChangedEvent(indexInfo.getId()));
+        return saved;
     }
 
     @Override
@@ -81,7 +95,10 @@ public class BasicIndexDataService implements IndexDataService {
             .orElseThrow(() -> new CommonException(Errors.INDEX_DATA_NOT_FOUND));
 
         indexData.update(request);
-        return indexDataMapper.toDto(indexDataRepository.save(indexData));
+        IndexDataDto updated = indexDataMapper.toDto(indexDataRepository.save(indexData));
+
+        eventPublisher.publishEvent(new IndexDataChangedEvent(indexData.getIndexInfo().getId()));
+        return updated;
     }
 
     @Override
@@ -91,18 +108,28 @@ public class BasicIndexDataService implements IndexDataService {
             .orElseThrow(() -> new CommonException(Errors.INDEX_DATA_NOT_FOUND));
 
         indexDataRepository.delete(indexData);
+        eventPublisher.publishEvent(new IndexDataChangedEvent(indexData.getIndexInfo().getId()));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<IndexDataDto> findAllByConditions(IndexDataQueryParams params) {
+    public void exportCsv(IndexDataQueryParams params, OutputStream outputStream) {
         Sort sort = resolveSort(params);
         var spec = IndexDataSpecifications.withFilters(params);
 
-        List<IndexData> results = indexDataRepository.findAll(spec, sort);
-        return results.stream()
-            .map(IndexDataMapper::toDto)
-            .collect(Collectors.toList());
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try (Stream<IndexDataDto> rows = indexDataRepository.streamAllAsDto(spec, sort, EXPORT_FETCH_SIZE)) {
+            IndexDataCsvExporter.writeHeader(writer);
+
+            Iterator<IndexDataDto> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                IndexDataCsvExporter.writeRow(writer, iterator.next());
+            }
+            writer.flush();
+        } catch (IOException e) {
+            log.error("[IndexDataService] CSV export 스트리밍 실패", e);
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
@@ -200,6 +227,8 @@ public class BasicIndexDataService implements IndexDataService {
 
     @Transactional(readOnly = true)
     @Override
+    @Cacheable(cacheNames = CacheConfig.INDEX_CHART,
+        key = "T(com.sprint.findex.global.cache.DashboardCacheKey).of(#indexInfoId, #periodType, null)")
     public IndexChartDto getIndexChart(Long indexInfoId, Period periodType) {
         IndexInfo indexInfo = indexInfoRepository.findById(indexInfoId)
             .orElseThrow(() -> new CommonException(Errors.INDEX_DATA_NOT_FOUND));
@@ -207,75 +236,28 @@ public class BasicIndexDataService implements IndexDataService {
         LocalDate startDate = calculateBaseDate(periodType);
         LocalDate currentDate = Instant.now().atZone(ZoneId.of("Asia/Seoul")).toLocalDate();
 
-        List<ChartPoint> pricePoints = new ArrayList<>();
-
-        while (!startDate.isAfter(currentDate)) {
-            Optional<IndexData> dataOpt = indexDataRepository
-                .findByIndexInfoIdAndBaseDateOnlyDateMatch(indexInfoId, startDate);
-
-            LocalDate finalStartDate = startDate;
-            dataOpt.ifPresent(data ->
-                pricePoints.add(new ChartPoint(finalStartDate.toString(), data.getClosingPrice()))
-            );
-
-            startDate = startDate.plusDays(1);
-        }
-
-        List<ChartPoint> ma5 = calculateMovingAverageStrict(pricePoints, MA5DATA_NUM);
-        List<ChartPoint> ma20 = calculateMovingAverageStrict(pricePoints, MA20DATA_NUM);
+        List<ChartPoint> pricePoints = indexChartEngine.loadPricePoints(indexInfoId, startDate, currentDate);
+        List<ChartPoint> ma5 = indexChartEngine.movingAverage(pricePoints, MA5DATA_NUM);
+        List<ChartPoint> ma20 = indexChartEngine.movingAverage(pricePoints, MA20DATA_NUM);
 
         return new IndexChartDto(indexInfoId, indexInfo.getIndexClassification(),
             indexInfo.getIndexName(), periodType, pricePoints, ma5, ma20);
     }
 
-    @Transactional(readOnly = true)
     @Override
+    @Cacheable(cacheNames = CacheConfig.FAVORITE_PERFORMANCE,
+        key = "T(com.sprint.findex.global.cache.DashboardCacheKey).of(null, #period, null)")
     public List<IndexPerformanceDto> getFavoriteIndexPerformances(Period period) {
-        List<IndexInfo> favorites = indexInfoRepository.findByFavoriteTrue();
-
-        return favorites.stream()
-            .map(indexInfo -> {
-                log.info("[IndexDataService] getFavoriteIndexPerformances 메서드 진입, favorite: {} ",
-                    indexInfo.getIndexName());
-                IndexData current = indexDataRepository.findTopByIndexInfoIdOrderByBaseDateDesc(
-                    indexInfo.getId()).orElse(null);
-
-                IndexData past = indexDataRepository.findByIndexInfoIdAndBaseDateOnlyDateMatch(
-                        indexInfo.getId(),
-                        calculateBaseDate(period))
-                    .orElse(null);
-                return IndexPerformanceDto.of(indexInfo, current,
-                    past);
-            })
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
+        return indexPerformanceSnapshotService.findFavorites(period);
     }
 
-    @Transactional(readOnly = true)
     @Override
+    @Cacheable(cacheNames = CacheConfig.PERFORMANCE_RANK,
+        key = "T(com.sprint.findex.global.cache.DashboardCacheKey).of(#indexInfoId, #period, #limit)")
     public List<RankedIndexPerformanceDto> getIndexPerformanceRank(Long indexInfoId,
         Period period, int limit) {
-        LocalDate baseDate = calculateBaseDate(period);
-
-        List<IndexInfo> targetInfos = (indexInfoId != null)
-            ? indexInfoRepository.findAllById(List.of(indexInfoId))
-            : indexInfoRepository.findAll();
-
-        List<IndexPerformanceDto> sortedList = targetInfos.stream()
-            .map(info -> {
-                IndexData current = indexDataRepository.findTopByIndexInfoIdOrderByBaseDateDesc(
-                    info.getId()).orElse(null);
-
-                IndexData before = indexDataRepository
-                    .findByIndexInfoIdAndBaseDateOnlyDateMatch(info.getId(), baseDate)
-                    .orElse(null);
-
-                return IndexPerformanceDto.of(info, current, before);
-            })
-            .filter(dto -> dto != null && dto.fluctuationRate() != null)
-            .sorted(Comparator.comparing(IndexPerformanceDto::fluctuationRate).reversed())
-            .limit(limit)
-            .toList();
+        List<IndexPerformanceDto> sortedList = indexPerformanceSnapshotService.findRank(
+            indexInfoId, period, limit);
 
         List<RankedIndexPerformanceDto> rankedList = new ArrayList<>();
         for (int i = 0; i < sortedList.size(); i++) {
@@ -285,46 +267,7 @@ public class BasicIndexDataService implements IndexDataService {
         return rankedList;
     }
 
-    private List<ChartPoint> calculateMovingAverageStrict(List<ChartPoint> prices, int window) {
-
-        List<ChartPoint> pts = prices.stream()
-            .sorted(Comparator.comparing(p -> LocalDate.parse(p.date())))
-            .toList();
-
-        Deque<BigDecimal> win = new ArrayDeque<>(window);
-        BigDecimal sum = BigDecimal.ZERO;
-        List<ChartPoint> result = new ArrayList<>(pts.size());
-
-        for (ChartPoint p : pts) {
-            BigDecimal v = p.value();
-            win.addLast(v);
-            sum = sum.add(v);
-
-            if (win.size() > window)
-            {
-                sum = sum.subtract(win.removeFirst());
-            }
-
-            BigDecimal avg = (win.size() == window)
-                ? sum.divide(BigDecimal.valueOf(window), 2, RoundingMode.HALF_UP)
-                : null;
-
-            result.add(new ChartPoint(p.date(), avg));
-        }
-        return result;
-    }
-
     private LocalDate calculateBaseDate(Period periodType) {
-        LocalDate today = LocalDate.now();
-
-        LocalDate result = switch (periodType) {
-            case DAILY -> today.minusDays(1);
-            case WEEKLY -> today.minusWeeks(1);
-            case MONTHLY -> today.minusMonths(1);
-            case QUARTERLY -> today.minusMonths(3);
-            case YEARLY -> today.minusYears(1);
-        };
-
-        return result;
+        return periodType.baseDateOf(LocalDate.now());
     }
-}
\ No newline at end of file
+}
@@ -10,6 +10,7 @@ import com.sprint.findex.dto.response.IndexInfoDto;
 import com.sprint.findex.dto.response.IndexInfoSummaryDto;
 import com.sprint.findex.dto.response.ResponseCursorDto;
 import com.sprint.findex.entity.IndexInfo;
+import com.sprint.findex.global.event.IndexDataChangedEvent;
 import com.sprint.findex.global.exception.CommonException;
 import com.sprint.findex.global.exception.Errors;
 import com.sprint.findex.mapper.IndexInfoMapper;
@@ -21,6 +22,7 @@ import java.util.Base64;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -37,6 +39,7 @@ public class BasicIndexInfoService implements IndexInfoService {
     private final IndexInfoRepository indexInfoRepository;
     private final IndexInfoMapper indexInfoMapper;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Override
@@ -66,6 +69,7 @@ public class BasicIndexInfoService implements IndexInfoService {
 
         if(updateDto.favorite() != null && updateDto.favorite() != indexInfo.isFavorite()){
             indexInfo.updateFavorite(updateDto.favorite());
+            eventPublisher.publishEvent(new IndexDataChangedEvent(indexInfo.getId()));
         }
 
         return indexInfoMapper.toDto(indexInfo);
@@ -75,6 +79,7 @@ public class BasicIndexInfoService implements IndexInfoService {
     @Transactional
     public void deleteIndexInfo(Long id) {
         indexInfoRepository.deleteById(id);
+        eventPublisher.publishEvent(new IndexDataChangedEvent(id));
     }
 
     @Override
@@ -0,0 +1,94 @@
+package com.sprint.findex.service.basic;
+
+import com.sprint.findex.dto.dashboard.IndexPerformanceDto;
+import com.sprint.findex.entity.IndexInfo;
+import com.sprint.findex.entity.IndexPerformanceSnapshot;
+import com.sprint.findex.entity.Period;
+import com.sprint.findex.global.event.IndexDataChangedEvent;
+import com.sprint.findex.repository.IndexPerformanceSnapshotRepository;
+import com.sprint.findex.service.IndexPerformanceSnapshotService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BasicIndexPerformanceSnapshotService implements IndexPerformanceSnapshotService {
+
+    private final IndexPerformanceSnapshotRepository snapshotRepository;
+    private final IndexPerformanceSnapshotWriter snapshotWriter;
+
+    // 조회는 미리 계산된 스냅샷만 읽는다. 자정 직후 전체 갱신 전까지는 전날 기준 스냅샷이 보인다
+    @Override
+    @Transactional(readOnly = true)
+    public List<IndexPerformanceDto> findFavorites(Period period) {
+        return snapshotRepository.findFavorites(period).stream()
+            .map(this::toDto)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<IndexPerformanceDto> findRank(Long indexInfoId, Period period, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        return snapshotRepository.findRank(period, indexInfoId, PageRequest.of(0, limit))
+            .stream()
+            .map(this::toDto)
+            .toList();
+    }
+
+    @Override
+    public void refresh(Long indexInfoId) {
+        snapshotWriter.refreshIndex(indexInfoId);
+    }
+
+    // 기동 직후와 기준 날짜가 바뀌는 자정 직후에 전체 스냅샷을 다시 만든다
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${dashboard.snapshot.rebuild-cron:0 5 0 * * *}")
+    public void rebuildAll() {
+        try {
+            snapshotWriter.rebuildAll();
+        } catch (Exception e) {
+            log.error("[IndexPerformanceSnapshotService] 스냅샷 전체 갱신 실패", e);
+        }
+    }
+
+    // 데이터 변경이 커밋된 뒤에 갱신한다. 캐시 무효화보다 먼저 실행되어야 이전 값이 다시 캐시되지 않는다
+    // 스냅샷 갱신 실패가 이미 끝난 저장/연동을 실패로 만들지 않도록 예외는 기록만 한다
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIndexDataChanged(IndexDataChangedEvent event) {
+        try {
+            snapshotWriter.refreshIndex(event.indexInfoId());
+        } catch (Exception e) {
+            log.error("[IndexPerformanceSnapshotService] 스냅샷 갱신 실패: indexInfoId={}", event.indexInfoId(), e);
+        }
+    }
+
+    private IndexPerformanceDto toDto(IndexPerformanceSnapshot snapshot) {
+        IndexInfo info = snapshot.getIndexInfo();
+        return new IndexPerformanceDto(
+            info.getId(),
+            info.getIndexClassification(),
+            info.getIndexName(),
+            snapshot.getVersus(),
+            snapshot.getFluctuationRate(),
+            snapshot.getCurrentPrice(),
+            snapshot.getBeforePrice()
+        );
+    }
+}
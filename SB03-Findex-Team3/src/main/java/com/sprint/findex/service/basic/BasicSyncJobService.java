@@ -1,19 +1,25 @@
 package com.sprint.findex.service.basic;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.findex.dto.request.BackfillChunkUnit;
+import com.sprint.findex.dto.request.IndexDataBackfillRequest;
 import com.sprint.findex.dto.request.IndexDataSyncRequest;
 import com.sprint.findex.dto.request.SyncJobQueryParams;
 import com.sprint.findex.dto.response.ResponseSyncJobCursorDto;
 import com.sprint.findex.dto.response.SyncJobDto;
 import com.sprint.findex.dto.response.cursor.CursorPageResponseSyncJobDto;
 import com.sprint.findex.entity.*;
+import com.sprint.findex.global.client.MarketIndexApiClient;
 import com.sprint.findex.global.dto.ApiResponse;
 import com.sprint.findex.global.dto.MarketIndexResponse;
+import com.sprint.findex.global.event.IndexDataChangedEvent;
 import com.sprint.findex.global.exception.CommonException;
 import com.sprint.findex.global.exception.Errors;
+import com.sprint.findex.global.sync.SyncFlightKey;
+import com.sprint.findex.global.sync.SyncProgress;
+import com.sprint.findex.global.sync.SyncSingleFlight;
 import com.sprint.findex.mapper.SyncJobMapper;
-import com.sprint.findex.repository.AutoSyncConfigRepository;
-import com.sprint.findex.repository.IndexDataRepository;
+import com.sprint.findex.repository.BackfillCheckpointRepository;
 import com.sprint.findex.repository.IndexInfoRepository;
 import com.sprint.findex.repository.SyncJobRepository;
 import com.sprint.findex.service.SyncJobService;
@@ -21,48 +27,50 @@ import com.sprint.findex.specification.SyncJobSpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.concurrent.Queues;
 
 import java.math.BigDecimal;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class BasicSyncJobService implements SyncJobService {
 
-    private final WebClient marketIndexWebClient;
+    private final MarketIndexApiClient marketIndexApiClient;
     private final IndexInfoRepository indexInfoRepository;
-    private final IndexDataRepository indexDataRepository;
     private final SyncJobRepository syncJobRepository;
-    private final AutoSyncConfigRepository autoSyncConfigRepository;
     private final SyncJobMapper syncJobMapper;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IndexDataSyncWriter indexDataSyncWriter;
+    private final IndexInfoSyncWriter indexInfoSyncWriter;
+    private final BackfillCheckpointRepository backfillCheckpointRepository;
+    private final SyncSingleFlight syncSingleFlight;
+    // 블로킹 DB 작업은 Netty 이벤트 루프가 아닌 이 스케줄러에서만 실행한다
+    private final Scheduler syncDbScheduler;
 
-    @Value("${api.data.service-key}")
-    private String serviceKey;
+    @Value("${sync.db.max-concurrency:8}")
+    private int dbMaxConcurrency;
 
-    @Value("${api.data.base-url}")
-    private String baseUrl;
+    @Value("${sync.backfill.parallelism:2}")
+    private int backfillParallelism;
 
     private static final String SYSTEM_WORKER = "system";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
@@ -72,136 +80,233 @@ public class BasicSyncJobService implements SyncJobService {
         validateRequest(request);
         workerIp = (workerIp == null || workerIp.isBlank()) ? SYSTEM_WORKER : workerIp;
 
-        List<Mono<List<SyncJobDto>>> jobMonos = new ArrayList<>();
-        for (Long indexInfoId : request.indexInfoIds()) {
-            final String finalWorkerIp = workerIp;
-            jobMonos.add(
-                fetchIndexInfo(indexInfoId)
-                    .flatMap(indexInfo ->
-                            fetchMarketIndexData(request, indexInfo)
-                                .flatMap(items -> processItems(items, request, indexInfo, finalWorkerIp))
-                    )
-                    .onErrorResume(
-                        e -> handleError(e, request, indexInfoId, finalWorkerIp).map(List::of))
-            );
-        }
-
-        return Flux.merge(jobMonos)
+        final String finalWorkerIp = workerIp;
+
+        // 같은 지수, 겹치는 기간을 이미 연동 중이면 새로 조회하지 않고 그 결과를 받는다
+        return Flux.fromIterable(request.indexInfoIds())
+            .flatMap(indexInfoId -> syncSingleFlight.execute(
+                    List.of(new SyncFlightKey(indexInfoId, request.baseDateFrom(), request.baseDateTo())),
+                    keys -> fetchIndexInfo(indexInfoId)
+                        .flatMap(indexInfo ->
+                            processItems(fetchMarketIndexData(request, indexInfo), request, indexInfo, finalWorkerIp)
+                                .doOnSuccess(jobs -> eventPublisher.publishEvent(
+                                    new IndexDataChangedEvent(indexInfo.getId())))
+                        )
+                        .onErrorResume(
+                            e -> handleError(e, request, indexInfoId, finalWorkerIp).map(List::of))),
+                dbMaxConcurrency)
             .flatMap(Flux::fromIterable)
             .collectList();
     }
 
-    private void validateRequest(IndexDataSyncRequest request) {
-        if (request.baseDateFrom() == null || request.baseDateTo() == null) {
-            throw new IllegalArgumentException("[SyncJobService] 시작 날짜와 마지막 날짜는 비어있을 수 없음");
-        }
-        if (request.baseDateFrom().isAfter(request.baseDateTo())) {
-            throw new IllegalArgumentException("[SyncJobService] 시작 날짜가 마지막 날짜보다 이후 시점임");
-        }
-    }
+    @Override
+    public Mono<List<SyncJobDto>> fetchAndSaveIndexDataMarketWide(IndexDataSyncRequest request, String workerIp) {
+        validateRequest(request);
+        String finalWorkerIp = (workerIp == null || workerIp.isBlank()) ? SYSTEM_WORKER : workerIp;
 
-    private Mono<IndexInfo> fetchIndexInfo(Long indexInfoId) {
-        return Mono.fromSupplier(() -> indexInfoRepository.findById(indexInfoId)
-            .orElseThrow(() -> new CommonException(Errors.INDEX_INFO_NOT_FOUND)));
+        List<SyncFlightKey> keys = request.indexInfoIds().stream()
+            .distinct()
+            .map(indexInfoId -> new SyncFlightKey(indexInfoId, request.baseDateFrom(), request.baseDateTo()))
+            .toList();
+
+        // 다른 요청이 이미 연동 중인 지수는 빼고 남은 지수만 시장 전체 조회로 처리한다
+        return syncSingleFlight.execute(keys, missingKeys -> syncMarketWide(
+            new IndexDataSyncRequest(
+                missingKeys.stream().map(SyncFlightKey::indexInfoId).toList(),
+                request.baseDateFrom(),
+                request.baseDateTo()),
+            finalWorkerIp));
     }
 
-    private Mono<List<MarketIndexResponse.MarketIndexData>> fetchMarketIndexData(IndexDataSyncRequest request, IndexInfo indexInfo) {
-        String url = createMarketIndexUrl(request, indexInfo);
+    private Mono<List<SyncJobDto>> syncMarketWide(IndexDataSyncRequest request, String finalWorkerIp) {
+        return Mono.fromCallable(() -> indexInfoRepository.findAllById(request.indexInfoIds()))
+            .subscribeOn(syncDbScheduler)
+            .flatMap(indexInfos -> {
+                Map<String, IndexInfo> indexInfoByKey = new HashMap<>();
+                for (IndexInfo indexInfo : indexInfos) {
+                    indexInfoByKey.put(
+                        routingKey(indexInfo.getIndexClassification(), indexInfo.getIndexName()), indexInfo);
+                }
 
-        return marketIndexWebClient.get()
-            .uri(URI.create(url))
-            .retrieve()
-            .bodyToMono(MarketIndexResponse.class)
-            .map(response -> response.getResponse().getBody().getItems().getItem())
-            .doOnError(e -> log.error("[SyncJobService] 지수 시장 데이터 불러오기 실패: {}", indexInfo.getIndexName()));
+                Set<Long> foundIds = new HashSet<>();
+                indexInfos.forEach(indexInfo -> foundIds.add(indexInfo.getId()));
+                Flux<SyncJobDto> notFoundJobs = Flux.fromIterable(request.indexInfoIds())
+                    .filter(indexInfoId -> !foundIds.contains(indexInfoId))
+                    .concatMap(indexInfoId -> handleError(
+                        new CommonException(Errors.INDEX_INFO_NOT_FOUND), request, indexInfoId, finalWorkerIp));
+
+                // 기간 전체를 한 번(페이지 단위)만 조회하고 (idxCsf, idxNm)으로 지수별로 나눈다
+                // 응답을 다 받기 전에 지수별 청크가 차는 대로 저장을 시작한다
+                // 조회가 도중에 실패하면 진행 중인 그룹에도 오류가 전달된다. flatMapDelayError로 그룹들이 실패 이력을
+                // 다 쓸 때까지 기다린 뒤, 성공/실패 이력을 다 쓴 지수(settledIds)를 뺀 나머지에 실패 이력을 남긴다
+                Set<Long> settledIds = ConcurrentHashMap.newKeySet();
+                Flux<SyncJobDto> syncedJobs = marketIndexApiClient
+                    .fetchMarketIndexData(request.baseDateFrom(), request.baseDateTo(), null)
+                    .filter(item -> indexInfoByKey.containsKey(routingKey(item.getIdxCsf(), item.getIdxNm())))
+                    .groupBy(item -> routingKey(item.getIdxCsf(), item.getIdxNm()))
+                    // 그룹 수는 지수 수를 넘지 않으므로 모든 그룹을 동시에 구독해야 groupBy가 멈추지 않는다
+                    .flatMapDelayError(group -> {
+                        IndexInfo indexInfo = indexInfoByKey.get(group.key());
+
+                        return processItems(group, request, indexInfo, finalWorkerIp)
+                            .doOnSuccess(jobs -> eventPublisher.publishEvent(new IndexDataChangedEvent(indexInfo.getId())))
+                            .onErrorResume(e -> handleError(e, request, indexInfo.getId(), finalWorkerIp).map(List::of))
+                            .doOnSuccess(jobs -> settledIds.add(indexInfo.getId()));
+                    }, indexInfoByKey.size() + 1, Queues.SMALL_BUFFER_SIZE)
+                    .flatMapIterable(jobs -> jobs)
+                    .onErrorResume(e -> Flux.fromIterable(foundIds)
+                        .filter(indexInfoId -> !settledIds.contains(indexInfoId))
+                        .concatMap(indexInfoId -> handleError(e, request, indexInfoId, finalWorkerIp)));
+
+                return Flux.concat(notFoundJobs, syncedJobs).collectList();
+            });
     }
 
-    private String createMarketIndexUrl(IndexDataSyncRequest request, IndexInfo indexInfo) {
-        String encodedIndexName = URLEncoder.encode(indexInfo.getIndexName(), StandardCharsets.UTF_8);
+    @Override
+    public Mono<List<SyncJobDto>> backfillIndexData(IndexDataBackfillRequest request, String workerIp) {
+        validateRequest(new IndexDataSyncRequest(request.indexInfoIds(), request.baseDateFrom(), request.baseDateTo()));
+        String finalWorkerIp = (workerIp == null || workerIp.isBlank()) ? SYSTEM_WORKER : workerIp;
+        BackfillChunkUnit chunkUnit = request.chunkUnit() == null ? BackfillChunkUnit.MONTH : request.chunkUnit();
+
+        List<IndexDataSyncRequest> chunks = splitIntoChunks(request, chunkUnit);
+        log.info("[SyncJobService] 백필 시작: 기간={}~{}, 청크 {}건 ({})",
+            request.baseDateFrom(), request.baseDateTo(), chunks.size(), chunkUnit);
+
+        return Flux.fromIterable(chunks)
+            .flatMapSequential(chunk -> backfillChunk(chunk, finalWorkerIp), backfillParallelism)
+            .flatMapIterable(jobs -> jobs)
+            .collectList();
+    }
 
-        String url = String.format(
-            "%s/getStockMarketIndex?serviceKey=%s&resultType=json&pageNo=1&numOfRows=1000&beginBasDt=%s&endBasDt=%s&idxNm=%s",
-            baseUrl,
-            serviceKey,
-            request.baseDateFrom().format(DATE_FORMATTER),
-            request.baseDateTo().format(DATE_FORMATTER),
-            encodedIndexName
-        );
+    private List<IndexDataSyncRequest> splitIntoChunks(IndexDataBackfillRequest request, BackfillChunkUnit chunkUnit) {
+        List<IndexDataSyncRequest> chunks = new ArrayList<>();
+        LocalDate chunkFrom = request.baseDateFrom();
 
-        return url;
+        while (!chunkFrom.isAfter(request.baseDateTo())) {
+            LocalDate chunkTo = chunkUnit.endOfChunk(chunkFrom);
+            if (chunkTo.isAfter(request.baseDateTo())) {
+                chunkTo = request.baseDateTo();
+            }
+            chunks.add(new IndexDataSyncRequest(request.indexInfoIds(), chunkFrom, chunkTo));
+            chunkFrom = chunkTo.plusDays(1);
+        }
+        return chunks;
     }
 
-    private Mono<List<SyncJobDto>> processItems(
-        List<MarketIndexResponse.MarketIndexData> items,
-        IndexDataSyncRequest request,
-        IndexInfo indexInfo,
-        String workerIp
-    ) {
-        List<Mono<SyncJobDto>> jobMonos = new ArrayList<>();
+    // 체크포인트가 있는 지수는 빼고 청크를 저장한 뒤, 성공한 지수에 체크포인트를 남긴다
+    private Mono<List<SyncJobDto>> backfillChunk(IndexDataSyncRequest chunk, String workerIp) {
+        return Mono.fromCallable(() -> backfillCheckpointRepository.findCompletedIndexInfoIds(
+                chunk.baseDateFrom(), chunk.baseDateTo(), chunk.indexInfoIds()))
+            .subscribeOn(syncDbScheduler)
+            .flatMap(completedIds -> {
+                List<Long> pendingIds = chunk.indexInfoIds().stream()
+                    .filter(indexInfoId -> !completedIds.contains(indexInfoId))
+                    .distinct()
+                    .toList();
+
+                if (pendingIds.isEmpty()) {
+                    log.info("[SyncJobService] 백필 청크 건너뜀 (체크포인트 있음): {}~{}",
+                        chunk.baseDateFrom(), chunk.baseDateTo());
+                    return Mono.just(List.<SyncJobDto>of());
+                }
 
-        for (MarketIndexResponse.MarketIndexData item : items) {
+                IndexDataSyncRequest pending = new IndexDataSyncRequest(
+                    pendingIds, chunk.baseDateFrom(), chunk.baseDateTo());
+                return fetchAndSaveIndexDataMarketWide(pending, workerIp)
+                    .flatMap(jobs -> Mono.fromCallable(() -> saveCheckpoints(pending, jobs))
+                        .subscribeOn(syncDbScheduler));
+            });
+    }
 
-            if (!indexInfo.getIndexClassification().equals(item.getIdxCsf()) ||
-                !indexInfo.getIndexName().equals(item.getIdxNm())) {
-                continue;
+    private List<SyncJobDto> saveCheckpoints(IndexDataSyncRequest chunk, List<SyncJobDto> jobs) {
+        Set<Long> failedIds = new HashSet<>();
+        for (SyncJobDto job : jobs) {
+            if (job.result() == SyncJobResult.FAILED) {
+                failedIds.add(job.indexInfoId());
             }
+        }
+
+        List<BackfillCheckpoint> checkpoints = indexInfoRepository.findAllById(chunk.indexInfoIds()).stream()
+            .filter(indexInfo -> !failedIds.contains(indexInfo.getId()))
+            .map(indexInfo -> new BackfillCheckpoint(indexInfo, chunk.baseDateFrom(), chunk.baseDateTo()))
+            .toList();
+        backfillCheckpointRepository.saveAll(checkpoints);
+
+        log.info("[SyncJobService] 백필 청크 완료: {}~{}, 체크포인트 {}건, 실패 지수 {}건",
+            chunk.baseDateFrom(), chunk.baseDateTo(), checkpoints.size(), failedIds.size());
+        return jobs;
+    }
+
+    private String routingKey(String indexClassification, String indexName) {
+        return indexClassification + "|" + indexName;
+    }
 
-            LocalDate baseDate = parseBaseDate(item.getBasDt());
-            jobMonos.add(saveOrUpdateIndexData(indexInfo, baseDate, item, workerIp));
+    private void validateRequest(IndexDataSyncRequest request) {
+        if (request.baseDateFrom() == null || request.baseDateTo() == null) {
+            throw new IllegalArgumentException("[SyncJobService] 시작 날짜와 마지막 날짜는 비어있을 수 없음");
         }
+        if (request.baseDateFrom().isAfter(request.baseDateTo())) {
+            throw new IllegalArgumentException("[SyncJobService] 시작 날짜가 마지막 날짜보다 이후 시점임");
+        }
+    }
 
-        return Flux.merge(jobMonos).collectList();
+    private Mono<IndexInfo> fetchIndexInfo(Long indexInfoId) {
+        return Mono.fromCallable(() -> indexInfoRepository.findById(indexInfoId)
+                .orElseThrow(() -> new CommonException(Errors.INDEX_INFO_NOT_FOUND)))
+            .subscribeOn(syncDbScheduler);
     }
 
-    private LocalDate parseBaseDate(String basDt) {
-        return LocalDate.parse(basDt, DATE_FORMATTER);
+    private Flux<MarketIndexResponse.MarketIndexData> fetchMarketIndexData(IndexDataSyncRequest request, IndexInfo indexInfo) {
+        return marketIndexApiClient
+            .fetchMarketIndexData(request.baseDateFrom(), request.baseDateTo(), indexInfo.getIndexName())
+            .doOnError(e -> log.error("[SyncJobService] 지수 시장 데이터 불러오기 실패: {}", indexInfo.getIndexName()));
     }
 
-    private Mono<SyncJobDto> saveOrUpdateIndexData(
+    // item이 도착하는 대로 청크 단위로 저장한다
+    private Mono<List<SyncJobDto>> processItems(
+        Flux<MarketIndexResponse.MarketIndexData> items,
+        IndexDataSyncRequest request,
         IndexInfo indexInfo,
-        LocalDate baseDate,
-        MarketIndexResponse.MarketIndexData item,
         String workerIp
     ) {
-        return Mono.fromSupplier(() -> {
-
-            IndexData existing = indexDataRepository
-                .findByIndexInfoAndBaseDate(indexInfo, baseDate)
-                .orElse(null);
-
-            if (existing != null) {
-                existing.updateFromApi(item);
-                indexDataRepository.save(existing);
-
-                log.info("[SyncJobService] IndexData 업데이트됨: classification={}, name={}, date={}",
-                    indexInfo.getIndexClassification(), indexInfo.getIndexName(), baseDate,
-                    item.getClpr(), item.getTrqu(), item.getTrPrc());
-            } else {
-                IndexData newData = new IndexData(
-                    indexInfo, baseDate, SourceType.OPEN_API,
-                    item.getMkp(), item.getClpr(), item.getHipr(), item.getLopr(),
-                    item.getVs(), item.getFltRt(), item.getTrqu(), item.getTrPrc(),
-                    item.getLstgMrktTotAmt()
-                );
-
-                indexDataRepository.save(newData);
-
-                log.info("[SyncJobService] IndexData 새로 저장됨: classification={}, name={}, date={}",
-                    indexInfo.getIndexClassification(), indexInfo.getIndexName(), baseDate,
-                    item.getClpr(), item.getTrqu(), item.getTrPrc());
-            }
+        return Mono.deferContextual(context -> {
+            SyncProgress progress = SyncProgress.from(context);
+
+            return items
+                .filter(item -> indexInfo.getIndexClassification().equals(item.getIdxCsf()) &&
+                    indexInfo.getIndexName().equals(item.getIdxNm()))
+                .buffer(indexDataSyncWriter.chunkSize())
+                .doOnNext(chunk -> progress.onFetched(chunk.size()))
+                .concatMap(chunk -> writeChunk(indexInfo, chunk, workerIp))
+                .doOnNext(result -> {
+                    progress.onInserted(result.inserted());
+                    progress.onUpdated(result.updated());
+                    progress.onUnchanged(result.unchanged());
+                    progress.onFailed(result.failed());
+                })
+                .collectList()
+                .flatMap(results -> indexDataSyncWriter.isAggregated()
+                    ? Mono.fromCallable(() -> indexDataSyncWriter.writeRun(
+                            indexInfo, request.baseDateFrom(), request.baseDateTo(), results, workerIp))
+                        .subscribeOn(syncDbScheduler)
+                    : Mono.just(results.stream().flatMap(result -> result.jobs().stream()).toList()));
+        });
+    }
 
-            SyncJob job = new SyncJob(
-                SyncJobType.INDEX_DATA,
-                indexInfo,
-                baseDate,
-                workerIp,
-                OffsetDateTime.now(),
-                SyncJobResult.SUCCESS
-            );
-            syncJobRepository.save(job);
+    // 집계 모드에서는 실패한 청크를 일자별 실패 이력으로 남기고 나머지 청크를 계속 저장한다
+    private Mono<IndexDataSyncWriter.WriteResult> writeChunk(
+        IndexInfo indexInfo, List<MarketIndexResponse.MarketIndexData> chunk, String workerIp) {
+        Mono<IndexDataSyncWriter.WriteResult> write = Mono.fromCallable(
+                () -> indexDataSyncWriter.write(indexInfo, chunk, workerIp))
+            .subscribeOn(syncDbScheduler);
 
-            return toDto(job);
+        if (!indexDataSyncWriter.isAggregated()) {
+            return write;
+        }
+        return write.onErrorResume(e -> {
+            log.error("[SyncJobService] 청크 저장 실패: indexInfo Id={}, {}건", indexInfo.getId(), chunk.size(), e);
+            return Mono.fromCallable(() -> indexDataSyncWriter.writeFailed(indexInfo, chunk, workerIp))
+                .subscribeOn(syncDbScheduler);
         });
     }
 
@@ -218,6 +323,13 @@ public class BasicSyncJobService implements SyncJobService {
     }
 
     private Mono<SyncJobDto> handleError(Throwable e, IndexDataSyncRequest request, Long indexInfoId, String workerIp) {
+        return Mono.deferContextual(context ->
+            Mono.fromCallable(() -> saveFailedIndexDataJob(e, request, indexInfoId, workerIp))
+                .subscribeOn(syncDbScheduler)
+                .doOnNext(job -> SyncProgress.from(context).onFailed(1)));
+    }
+
+    private SyncJobDto saveFailedIndexDataJob(Throwable e, IndexDataSyncRequest request, Long indexInfoId, String workerIp) {
         log.error("[SyncJobService] 동기화 실패: indexInfo Id={}, 기간={}~{}", indexInfoId, request.baseDateFrom(), request.baseDateTo(), e);
 
         IndexInfo indexInfo = null;
@@ -241,7 +353,7 @@ public class BasicSyncJobService implements SyncJobService {
         SyncJob job = new SyncJob(SyncJobType.INDEX_DATA, indexInfo, request.baseDateFrom(), workerIp, OffsetDateTime.now(), SyncJobResult.FAILED);
         syncJobRepository.save(job);
 
-        return Mono.just(toDto(job));
+        return toDto(job);
     }
 
     @Override
@@ -250,54 +362,28 @@ public class BasicSyncJobService implements SyncJobService {
         String settingWorkerIp = (workerIp == null || workerIp.isBlank()) ? SYSTEM_WORKER : workerIp;
 
         return fetchAllIndexInfosFromApi()
-            .map(items -> processIndexInfoSync(items, settingWorkerIp))
+            .flatMap(items -> Mono.deferContextual(context ->
+                    Mono.fromCallable(() -> processIndexInfoSync(items, settingWorkerIp, SyncProgress.from(context))))
+                .subscribeOn(syncDbScheduler))
             .doOnSuccess(syncJobs ->
                 log.info("[SyncJobService] 지수 정보 연동 성공!"))
             .doOnError(error ->
                 log.error("[SyncJobService] 지수 정보 연동 실패: ", error))
 
-            .onErrorResume(error ->
-                handleIndexInfoSyncError(error, settingWorkerIp));
+            .onErrorResume(error -> Mono.deferContextual(context ->
+                Mono.fromCallable(() -> handleIndexInfoSyncError(error, settingWorkerIp))
+                    .subscribeOn(syncDbScheduler)
+                    .doOnNext(jobs -> SyncProgress.from(context).onFailed(jobs.size()))));
     }
 
     private Mono<List<ApiResponse.StockIndexItem>> fetchAllIndexInfosFromApi() {
-
-        String url = String.format("%s/getStockMarketIndex?serviceKey=%s&resultType=json&pageNo=%d&numOfRows=%d",
-            baseUrl, serviceKey, 1, 200);
-
-        return callApi(url)
-            .flatMap(firstResponse -> {
-                List<ApiResponse.StockIndexItem> allItems = new ArrayList<>();
-
-                if (firstResponse.getBody() != null && firstResponse.getBody().getItems() != null) {
-                    allItems.addAll(firstResponse.getBody().getItems().getItem());
-                }
-
-                return Mono.just(allItems);
-            });
-    }
-
-    private Mono<ApiResponse> callApi(String url) {
-        try{
-            URI uri = new URI(url);
-            log.info("[SyncJobService] API 호출: {}", url.replaceAll("serviceKey=[^&]*", "serviceKey=****"));
-
-            return marketIndexWebClient.get()
-                .uri(uri)
-                .accept(MediaType.APPLICATION_JSON)
-                .retrieve()
-                .bodyToMono(ApiResponse.class)
-                .retry(2)
-                .doOnNext(response -> System.out.println("[SyncJobService] API 호출 성공!"))
-                .doOnError(error -> System.out.println("[SyncJobService] API 호출 실패: " + error.getMessage()));
-
-        }catch (URISyntaxException e) {
-            log.error("[SyncJobService] URI 변환 실패: {}", url, e);
-            return Mono.error(new RuntimeException(e.getMessage()));
-        }
+        return marketIndexApiClient.fetchAllIndexInfos(LocalDate.now())
+            .collectList()
+            .doOnNext(items -> log.info("[SyncJobService] 지수 정보 {}건 불러옴", items.size()));
     }
 
-    private List<SyncJobDto> processIndexInfoSync(List<ApiResponse.StockIndexItem> items, String workerIp){
+    private List<SyncJobDto> processIndexInfoSync(
+        List<ApiResponse.StockIndexItem> items, String workerIp, SyncProgress progress){
 
         Set<String> processedKeys = new HashSet<>();
         List<ApiResponse.StockIndexItem> uniqueItems = new ArrayList<>();
@@ -309,99 +395,26 @@ public class BasicSyncJobService implements SyncJobService {
             }
         }
 
-        List<IndexInfo> allIndexInfo = indexInfoRepository.findAll();
-        List<SyncJobDto> syncJobs = new ArrayList<>();
-
-        for (ApiResponse.StockIndexItem item: uniqueItems){
-            try {
-                IndexInfo existing = findExisting(item);
-                IndexInfo indexInfo;
-
-                if (existing != null) {
-                    indexInfo = updateExisting(existing, item);
-
-                    if (hasChanged(existing, item)) {
-                        indexInfo = updateExisting(existing, item);
-                        indexInfoRepository.save(indexInfo);
-                    }
-                    else {
-                        indexInfo = existing;
-                    }
-
-                } else {
-                    indexInfo = createNewIndexInfo(item);
-                    allIndexInfo.add(indexInfo);
-                    IndexInfo savedInfo = indexInfoRepository.save(indexInfo);
-                }
-
-                SyncJob newSyncJob = createSyncJob(indexInfo, workerIp);
-                SyncJob savedSyncJob = syncJobRepository.save(newSyncJob);
-                SyncJobDto syncJobDto = syncJobMapper.toDto(savedSyncJob);
-                syncJobs.add(syncJobDto);
-
-            }catch (Exception e){
-                log.error("[SyncJobService] 불러온 지수 정보 처리 실패", e);
-
-                SyncJobDto failed = createFailedSyncJobDto(item, workerIp);
-                syncJobs.add(failed);
-            }
-        }
-
-        return syncJobs;
-    }
-
-    private IndexInfo findExisting(ApiResponse.StockIndexItem item) {
-        return indexInfoRepository
-            .findByIndexClassificationAndIndexName(item.getIndexClassification(), item.getIndexName())
-            .orElse(null);
-    }
-
-    private IndexInfo createNewIndexInfo(ApiResponse.StockIndexItem item) {
-        IndexInfo newIndexInfo = new IndexInfo(
-            item.getIndexClassification(),
-            item.getIndexName(),
-            parseInteger(item.getEmployedItemsCount()),
-            parseDate(item.getBasePointTime()),
-            parseBigDecimal(item.getBaseIndex()),
-            SourceType.OPEN_API,
-            false
-        );
-
-        indexInfoRepository.save(newIndexInfo);
-
-        AutoSyncConfig config = AutoSyncConfig.ofIndexInfo(newIndexInfo);
-        config.setEnabled(false);
-        autoSyncConfigRepository.save(config);
-
-        return newIndexInfo;
-    }
-
-    private SyncJob createSyncJob(IndexInfo indexInfo, String workerIp){
-
-        return new SyncJob(
-            SyncJobType.INDEX_INFO,
-            indexInfo,
-            null,
-            workerIp,
-            OffsetDateTime.now(),
-            SyncJobResult.SUCCESS
-        );
-    }
+        progress.onFetched(uniqueItems.size());
+        List<IndexInfoSyncWriter.CatalogItem> catalog = uniqueItems.stream()
+            .map(item -> new IndexInfoSyncWriter.CatalogItem(
+                item.getIndexClassification(),
+                item.getIndexName(),
+                parseInteger(item.getEmployedItemsCount()),
+                parseDate(item.getBasePointTime()),
+                parseBigDecimal(item.getBaseIndex())
+            ))
+            .toList();
 
-    private SyncJobDto createFailedSyncJobDto(ApiResponse.StockIndexItem item, String workerIp) {
+        IndexInfoSyncWriter.WriteResult result = indexInfoSyncWriter.write(catalog, workerIp);
+        progress.onInserted(result.inserted());
+        progress.onUpdated(result.updated());
+        progress.onUnchanged(result.unchanged());
 
-        return new SyncJobDto(
-            null,
-            SyncJobType.INDEX_INFO,
-            null,
-            null,
-            workerIp,
-            OffsetDateTime.now(),
-            SyncJobResult.FAILED
-        );
+        return result.jobs();
     }
 
-    private Mono<List<SyncJobDto>> handleIndexInfoSyncError(Throwable error, String workerIp) {
+    private List<SyncJobDto> handleIndexInfoSyncError(Throwable error, String workerIp) {
         log.error("[SyncJobService] 지수 정보 동기화 실패", error);
 
         SyncJob failedJob = new SyncJob(
@@ -424,7 +437,7 @@ public class BasicSyncJobService implements SyncJobService {
             failedJob.getResult()
         );
 
-        return Mono.just(List.of(failedJobDto));
+        return List.of(failedJobDto);
     }
 
     private LocalDate parseDate(String dateString) {
@@ -464,22 +477,6 @@ public class BasicSyncJobService implements SyncJobService {
         }
     }
 
-    private boolean hasChanged(IndexInfo existing, ApiResponse.StockIndexItem item){
-        return !existing.getIndexClassification().equals(item.getIndexClassification()) ||
-            !existing.getIndexName().equals(item.getIndexName()) ||
-            !Objects.equals(existing.getEmployedItemsCount(), parseInteger(item.getEmployedItemsCount())) ||
-            !Objects.equals(existing.getBaseIndex(), parseBigDecimal(item.getBaseIndex())) ||
-            !existing.getBasePointInTime().equals(parseDate(item.getBasePointTime()));
-    }
-
-    private IndexInfo updateExisting(IndexInfo existing, ApiResponse.StockIndexItem item) {
-        existing.updateIndexClassification(item.getIndexClassification());
-        existing.updateIndexName(item.getIndexName());
-        existing.updateEmployedItemsCount(parseInteger(item.getEmployedItemsCount()));
-        existing.updateBaseIndex(parseBigDecimal(item.getBaseIndex()));
-        existing.updateBasePointInTime(parseDate(item.getBasePointTime()));
-        return existing;
-    }
 
     @Override
     @Transactional(readOnly = true)
@@ -1,52 +1,96 @@
 package com.sprint.findex.service.basic;
 
 import com.sprint.findex.dto.request.IndexDataSyncRequest;
-import com.sprint.findex.entity.AutoSyncConfig;
-import com.sprint.findex.entity.SyncJob;
-import com.sprint.findex.repository.AutoSyncConfigRepository;
-import com.sprint.findex.repository.SyncJobRepository;
+import com.sprint.findex.dto.response.SyncJobDto;
+import com.sprint.findex.entity.SyncJobResult;
+import com.sprint.findex.global.lock.AdvisoryLockKeys;
+import com.sprint.findex.global.lock.ClusterLeaderLock;
+import com.sprint.findex.service.basic.SyncPlanner.SyncRange;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class BasicSyncScheduler {
 
-    private final AutoSyncConfigRepository autoSyncConfigRepository;
-    private final SyncJobRepository syncJobRepository;
+    private static final String TASK_NAME = "auto-sync-index-data";
+
+    private final SyncPlanner syncPlanner;
     private final BasicSyncJobService basicSyncJobService;
+    private final MeterRegistry meterRegistry;
+    private final ClusterLeaderLock clusterLeaderLock;
+    private final SyncTaskWorker syncTaskWorker;
+
+    // 이전 실행이 끝나기 전에는 새 실행을 시작하지 않는다
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${sync.scheduler.parallelism:4}")
+    private int parallelism;
+
+    @Value("${sync.scheduler.run-timeout:3h}")
+    private Duration runTimeout;
 
     @Scheduled(cron = "${sync.scheduler.cron}")
     public void autoSyncIndexData() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[SyncSchedule] 이전 자동연동이 아직 실행 중이라 이번 실행은 건너뜀");
+            return;
+        }
+
+        try {
+            // 여러 인스턴스 중 한 노드만 실행한다. 락을 못 잡으면 바로 돌아오고 인계 대기는 락 전용 스레드가 맡는다
+            clusterLeaderLock.runAsLeader(TASK_NAME, AdvisoryLockKeys.AUTO_SYNC_LEADER, LocalDate.now(), this::runSync);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void runSync() {
         log.info("[SyncSchedule] 지수 데이터 배치 자동연동 시작");
+        long startedAt = System.nanoTime();
+
+        // 마지막 작업 시각이 아니라 실제로 저장된 base_date 기준으로 비어있는 구간만 조회한다
+        List<SyncRange> ranges = syncPlanner.plan(LocalDate.now());
 
-        List<AutoSyncConfig> enabledConfigs = autoSyncConfigRepository.findAll().stream()
-            .filter(AutoSyncConfig::isEnabled)
-            .toList();
-
-        for (AutoSyncConfig config : enabledConfigs) {
-            Long indexId = config.getIndexInfo().getId();
-            OffsetDateTime lastJobTime = syncJobRepository.findTopByIndexInfoIdOrderByJobTimeDesc(indexId)
-                .map(SyncJob::getJobTime)
-                .orElse(OffsetDateTime.now().minusDays(28));
-            LocalDate lastSyncedDate = lastJobTime.toLocalDate();
-
-            log.info("[SyncSchedule] [indexId={}] 마지막 연동 날짜: {}", indexId, lastSyncedDate);
-            LocalDate today = LocalDate.now();
-            if (lastSyncedDate.isBefore(today)) {
-                IndexDataSyncRequest request = new IndexDataSyncRequest(
-                    List.of(indexId), lastSyncedDate.plusDays(1), today
-                );
-                basicSyncJobService.fetchAndSaveIndexData(request, null).subscribe();
-            }
+        // 큐 모드에서는 작업만 등록하고 실제 연동은 모든 노드의 SyncTaskWorker가 나눠 처리한다
+        if (syncTaskWorker.isEnabled()) {
+            syncTaskWorker.enqueue(ranges);
+            log.info("[SyncSchedule] 배치 지수 데이터 연동 작업 등록 완료: 구간 {}건", ranges.size());
+            return;
         }
 
-        log.info("[SyncSchedule] 배치 지수 데이터 자동연동 완료");
+        // 스케줄러 스레드에서 모든 구간의 결과를 기다려야 실제 종료 시점을 알 수 있다
+        List<SyncJobDto> jobs = Flux.fromIterable(ranges)
+            .flatMap(range -> {
+                log.info("[SyncSchedule] 연동 구간: {}~{}, 지수 {}건",
+                    range.from(), range.to(), range.indexInfoIds().size());
+                IndexDataSyncRequest request =
+                    new IndexDataSyncRequest(range.indexInfoIds(), range.from(), range.to());
+                return basicSyncJobService.fetchAndSaveIndexDataMarketWide(request, null);
+            }, parallelism)
+            .flatMapIterable(rangeJobs -> rangeJobs)
+            .collectList()
+            .block(runTimeout);
+
+        long succeeded = jobs.stream().filter(job -> job.result() == SyncJobResult.SUCCESS).count();
+        long failed = jobs.size() - succeeded;
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        meterRegistry.timer("findex.sync.scheduler.run").record(elapsed);
+        meterRegistry.counter("findex.sync.scheduler.jobs", "result", SyncJobResult.SUCCESS.name()).increment(succeeded);
+        meterRegistry.counter("findex.sync.scheduler.jobs", "result", SyncJobResult.FAILED.name()).increment(failed);
+
+        log.info("[SyncSchedule] 배치 지수 데이터 자동연동 완료: 구간 {}건, 성공 {}건, 실패 {}건, 소요 {}ms",
+            ranges.size(), succeeded, failed, elapsed.toMillis());
     }
-}
\ No newline at end of file
+}
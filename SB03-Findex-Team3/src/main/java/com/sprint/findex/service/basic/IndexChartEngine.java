@@ -0,0 +1,66 @@
+package com.sprint.findex.service.basic;
+
+import com.sprint.findex.dto.dashboard.ChartPoint;
+import com.sprint.findex.dto.dashboard.IndexClosePrice;
+import com.sprint.findex.repository.IndexDataRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class IndexChartEngine {
+
+    private final IndexDataRepository indexDataRepository;
+
+    // 휴장일에는 해당 날짜 이전의 가장 최근 종가를 사용한다
+    public List<ChartPoint> loadPricePoints(Long indexInfoId, LocalDate startDate, LocalDate endDate) {
+        List<IndexClosePrice> rows = indexDataRepository.findClosePricesForChart(
+            indexInfoId, startDate, endDate);
+
+        List<ChartPoint> pricePoints = new ArrayList<>();
+        int cursor = -1;
+
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            while (cursor + 1 < rows.size() && !rows.get(cursor + 1).baseDate().isAfter(date)) {
+                cursor++;
+            }
+
+            if (cursor >= 0) {
+                pricePoints.add(new ChartPoint(date.toString(), rows.get(cursor).closingPrice()));
+            }
+        }
+
+        return pricePoints;
+    }
+
+    // prices는 날짜 오름차순으로 정렬되어 있어야 한다
+    public List<ChartPoint> movingAverage(List<ChartPoint> prices, int window) {
+        Deque<BigDecimal> win = new ArrayDeque<>(window);
+        BigDecimal sum = BigDecimal.ZERO;
+        List<ChartPoint> result = new ArrayList<>(prices.size());
+
+        for (ChartPoint p : prices) {
+            BigDecimal v = p.value();
+            win.addLast(v);
+            sum = sum.add(v);
+
+            if (win.size() > window) {
+                sum = sum.subtract(win.removeFirst());
+            }
+
+            BigDecimal avg = (win.size() == window)
+                ? sum.divide(BigDecimal.valueOf(window), 2, RoundingMode.HALF_UP)
+                : null;
+
+            result.add(new ChartPoint(p.date(), avg));
+        }
+        return result;
+    }
+}
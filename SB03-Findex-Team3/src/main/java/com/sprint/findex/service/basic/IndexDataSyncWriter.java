@@ -0,0 +1,180 @@
+package com.sprint.findex.service.basic;
+
+import com.sprint.findex.dto.response.SyncJobDto;
+import com.sprint.findex.entity.IndexInfo;
+import com.sprint.findex.entity.SyncJobResult;
+import com.sprint.findex.entity.SyncJobType;
+import com.sprint.findex.global.dto.MarketIndexResponse.MarketIndexData;
+import com.sprint.findex.repository.IndexDataBulkRepository;
+import com.sprint.findex.repository.IndexDataBulkRepository.SyncJobRow;
+import com.sprint.findex.repository.IndexDataBulkRepository.UpsertedRow;
+import com.sprint.findex.repository.IndexDataBulkRepository.WriteOutcome;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexDataSyncWriter {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final IndexDataBulkRepository indexDataBulkRepository;
+
+    @Value("${sync.writer.chunk-size:500}")
+    private int chunkSize;
+
+    // true면 일자별 연동 이력 대신 지수/기간당 실행 레코드 한 건만 남긴다 (실패한 일자는 일자별로 남김)
+    @Value("${sync.job-log.aggregated:false}")
+    private boolean aggregated;
+
+    public boolean isAggregated() {
+        return aggregated;
+    }
+
+    // 한 청크가 multi-row INSERT 한 문장이 되므로 파라미터 한도를 넘지 않게 줄인다
+    @PostConstruct
+    void validateChunkSize() {
+        if (chunkSize < 1 || chunkSize > IndexDataBulkRepository.MAX_ROWS_PER_STATEMENT) {
+            int clamped = Math.max(1, Math.min(chunkSize, IndexDataBulkRepository.MAX_ROWS_PER_STATEMENT));
+            log.warn("[IndexDataSyncWriter] sync.writer.chunk-size={}는 허용 범위(1~{})를 벗어나 {}로 조정",
+                chunkSize, IndexDataBulkRepository.MAX_ROWS_PER_STATEMENT, clamped);
+            chunkSize = clamped;
+        }
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    // 한 청크의 지수 데이터와 연동 이력을 같은 트랜잭션에서 일괄 저장한다
+    @Transactional
+    public WriteResult write(IndexInfo indexInfo, List<MarketIndexData> chunk, String workerIp) {
+        Map<LocalDate, MarketIndexData> itemsByDate = byDate(chunk);
+
+        List<UpsertedRow> upsertedRows = indexDataBulkRepository.upsertIndexData(indexInfo.getId(), itemsByDate);
+        int inserted = (int) upsertedRows.stream().filter(UpsertedRow::inserted).count();
+        int updated = upsertedRows.size() - inserted;
+        int unchanged = itemsByDate.size() - upsertedRows.size();
+
+        log.info("[IndexDataSyncWriter] IndexData 일괄 저장: classification={}, name={}, 추가={}, 갱신={}, 변경없음={}",
+            indexInfo.getIndexClassification(), indexInfo.getIndexName(), inserted, updated, unchanged);
+
+        if (aggregated) {
+            return new WriteResult(List.of(), inserted, updated, unchanged, 0);
+        }
+
+        // RETURNING에 없는 일자는 값이 같아 건너뛴 행이다
+        Map<LocalDate, WriteOutcome> outcomesByDate = new LinkedHashMap<>();
+        itemsByDate.keySet().forEach(baseDate -> outcomesByDate.put(baseDate, WriteOutcome.UNCHANGED));
+        upsertedRows.forEach(row ->
+            outcomesByDate.put(row.baseDate(), row.inserted() ? WriteOutcome.INSERTED : WriteOutcome.UPDATED));
+
+        List<SyncJobDto> jobs = insertJobs(indexInfo, outcomesByDate, workerIp);
+        return new WriteResult(jobs, inserted, updated, unchanged, 0);
+    }
+
+    // 집계 모드에서 저장에 실패한 청크는 일자별 실패 이력으로 남긴다 (write 트랜잭션은 이미 롤백된 상태)
+    @Transactional
+    public WriteResult writeFailed(IndexInfo indexInfo, List<MarketIndexData> chunk, String workerIp) {
+        Map<LocalDate, WriteOutcome> outcomesByDate = new LinkedHashMap<>();
+        byDate(chunk).keySet().forEach(baseDate -> outcomesByDate.put(baseDate, WriteOutcome.FAILED));
+        List<SyncJobDto> jobs = insertJobs(indexInfo, outcomesByDate, workerIp);
+        return new WriteResult(jobs, 0, 0, 0, outcomesByDate.size());
+    }
+
+    // 집계 모드: 지수/기간당 실행 레코드 한 건과 실패 일자 이력을 돌려준다
+    @Transactional
+    public List<SyncJobDto> writeRun(IndexInfo indexInfo, LocalDate from, LocalDate to,
+        List<WriteResult> results, String workerIp) {
+        int inserted = 0;
+        int updated = 0;
+        int unchanged = 0;
+        int failed = 0;
+        List<SyncJobDto> jobs = new ArrayList<>();
+        for (WriteResult result : results) {
+            inserted += result.inserted();
+            updated += result.updated();
+            unchanged += result.unchanged();
+            failed += result.failed();
+            jobs.addAll(result.jobs());
+        }
+
+        // 저장된 일자가 하나도 없이 실패만 있으면 실행 자체를 실패로 본다
+        SyncJobResult runResult = (failed > 0 && inserted + updated + unchanged == 0)
+            ? SyncJobResult.FAILED
+            : SyncJobResult.SUCCESS;
+
+        OffsetDateTime jobTime = OffsetDateTime.now();
+        Long runId = indexDataBulkRepository.insertSyncRun(
+            indexInfo.getId(), from, to, workerIp, jobTime, runResult, inserted, updated, unchanged, failed);
+
+        jobs.add(0, new SyncJobDto(
+            runId,
+            SyncJobType.INDEX_DATA,
+            indexInfo.getId(),
+            from,
+            workerIp,
+            jobTime,
+            runResult,
+            to,
+            inserted,
+            updated,
+            unchanged,
+            failed
+        ));
+        return jobs;
+    }
+
+    private Map<LocalDate, MarketIndexData> byDate(List<MarketIndexData> chunk) {
+        Map<LocalDate, MarketIndexData> itemsByDate = new LinkedHashMap<>();
+        for (MarketIndexData item : chunk) {
+            itemsByDate.put(LocalDate.parse(item.getBasDt(), DATE_FORMATTER), item);
+        }
+        return itemsByDate;
+    }
+
+    private List<SyncJobDto> insertJobs(IndexInfo indexInfo, Map<LocalDate, WriteOutcome> outcomesByDate,
+        String workerIp) {
+        OffsetDateTime jobTime = OffsetDateTime.now();
+        List<SyncJobRow> jobRows = indexDataBulkRepository.insertSyncJobs(
+            SyncJobType.INDEX_DATA,
+            indexInfo.getId(),
+            outcomesByDate,
+            workerIp,
+            jobTime
+        );
+
+        return jobRows.stream()
+            .map(row -> new SyncJobDto(
+                row.id(),
+                SyncJobType.INDEX_DATA,
+                indexInfo.getId(),
+                row.targetDate(),
+                workerIp,
+                jobTime,
+                row.outcome().result(),
+                null,
+                row.outcome() == WriteOutcome.INSERTED ? 1 : 0,
+                row.outcome() == WriteOutcome.UPDATED ? 1 : 0,
+                row.outcome() == WriteOutcome.UNCHANGED ? 1 : 0,
+                row.outcome() == WriteOutcome.FAILED ? 1 : 0
+            ))
+            .toList();
+    }
+
+    public record WriteResult(List<SyncJobDto> jobs, int inserted, int updated, int unchanged, int failed) {
+
+    }
+}
@@ -0,0 +1,136 @@
+package com.sprint.findex.service.basic;
+
+import com.sprint.findex.dto.response.SyncJobDto;
+import com.sprint.findex.entity.AutoSyncConfig;
+import com.sprint.findex.entity.IndexInfo;
+import com.sprint.findex.entity.SourceType;
+import com.sprint.findex.entity.SyncJob;
+import com.sprint.findex.entity.SyncJobResult;
+import com.sprint.findex.entity.SyncJobType;
+import com.sprint.findex.mapper.SyncJobMapper;
+import com.sprint.findex.repository.AutoSyncConfigRepository;
+import com.sprint.findex.repository.IndexInfoRepository;
+import com.sprint.findex.repository.SyncJobRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexInfoSyncWriter {
+
+    private final IndexInfoRepository indexInfoRepository;
+    private final AutoSyncConfigRepository autoSyncConfigRepository;
+    private final SyncJobRepository syncJobRepository;
+    private final SyncJobMapper syncJobMapper;
+
+    // 기존 지수 정보를 한 번만 읽어 메모리에서 비교하고, 추가/갱신/연동 이력을 한 트랜잭션에서 일괄 저장한다
+    @Transactional
+    public WriteResult write(List<CatalogItem> items, String workerIp) {
+        Map<String, IndexInfo> existingByKey = new HashMap<>();
+        for (IndexInfo indexInfo : indexInfoRepository.findAll()) {
+            existingByKey.putIfAbsent(key(indexInfo.getIndexClassification(), indexInfo.getIndexName()), indexInfo);
+        }
+
+        List<IndexInfo> created = new ArrayList<>();
+        List<IndexInfo> synced = new ArrayList<>(items.size());
+        int updated = 0;
+
+        for (CatalogItem item : items) {
+            IndexInfo existing = existingByKey.get(key(item.indexClassification(), item.indexName()));
+
+            if (existing == null) {
+                IndexInfo indexInfo = item.toIndexInfo();
+                created.add(indexInfo);
+                synced.add(indexInfo);
+            } else {
+                // 관리 중인 엔티티라 값만 바꾸면 커밋 시 변경 감지로 일괄 UPDATE 된다
+                if (hasChanged(existing, item)) {
+                    update(existing, item);
+                    updated++;
+                }
+                synced.add(existing);
+            }
+        }
+
+        indexInfoRepository.saveAll(created);
+        autoSyncConfigRepository.saveAll(created.stream().map(AutoSyncConfig::ofIndexInfo).toList());
+
+        OffsetDateTime jobTime = OffsetDateTime.now();
+        List<SyncJob> jobs = syncJobRepository.saveAll(synced.stream()
+            .map(indexInfo -> new SyncJob(
+                SyncJobType.INDEX_INFO,
+                indexInfo,
+                null,
+                workerIp,
+                jobTime,
+                SyncJobResult.SUCCESS
+            ))
+            .toList());
+
+        int inserted = created.size();
+        int unchanged = items.size() - inserted - updated;
+        log.info("[IndexInfoSyncWriter] IndexInfo 일괄 저장: 추가={}, 갱신={}, 변경없음={}", inserted, updated, unchanged);
+
+        return new WriteResult(jobs.stream().map(syncJobMapper::toDto).toList(), inserted, updated, unchanged);
+    }
+
+    private boolean hasChanged(IndexInfo existing, CatalogItem item) {
+        return existing.getEmployedItemsCount() != item.employedItemsCount() ||
+            !Objects.equals(existing.getBasePointInTime(), item.basePointInTime()) ||
+            !sameValue(existing.getBaseIndex(), item.baseIndex());
+    }
+
+    // DB에서 읽은 값과 API 값의 scale이 달라도 같은 값이면 변경으로 보지 않는다
+    private boolean sameValue(BigDecimal a, BigDecimal b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a.compareTo(b) == 0;
+    }
+
+    private void update(IndexInfo existing, CatalogItem item) {
+        existing.updateEmployedItemsCount(item.employedItemsCount());
+        existing.updateBaseIndex(item.baseIndex());
+        existing.updateBasePointInTime(item.basePointInTime());
+    }
+
+    private String key(String indexClassification, String indexName) {
+        return indexClassification + "|" + indexName;
+    }
+
+    public record CatalogItem(
+        String indexClassification,
+        String indexName,
+        int employedItemsCount,
+        LocalDate basePointInTime,
+        BigDecimal baseIndex
+    ) {
+
+        private IndexInfo toIndexInfo() {
+            return new IndexInfo(
+                indexClassification,
+                indexName,
+                employedItemsCount,
+                basePointInTime,
+                baseIndex,
+                SourceType.OPEN_API,
+                false
+            );
+        }
+    }
+
+    public record WriteResult(List<SyncJobDto> jobs, int inserted, int updated, int unchanged) {
+
+    }
+}
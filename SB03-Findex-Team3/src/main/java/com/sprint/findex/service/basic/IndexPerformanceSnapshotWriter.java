@@ -0,0 +1,53 @@
+package com.sprint.findex.service.basic;
+
+import com.sprint.findex.entity.Period;
+import com.sprint.findex.global.lock.AdvisoryLockKeys;
+import com.sprint.findex.repository.IndexPerformanceSnapshotRepository;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexPerformanceSnapshotWriter {
+
+    private static final long REBUILD_LOCK_KEY = AdvisoryLockKeys.PERFORMANCE_SNAPSHOT_REBUILD;
+
+    private final IndexPerformanceSnapshotRepository snapshotRepository;
+
+    // 한 지수의 모든 기간 스냅샷을 다시 계산한다. 호출한 쪽 트랜잭션과 분리해 커밋한다
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refreshIndex(Long indexInfoId) {
+        LocalDate today = LocalDate.now();
+        for (Period period : Period.values()) {
+            refreshScope(period, period.baseDateOf(today), indexInfoId);
+        }
+        log.debug("[IndexPerformanceSnapshotWriter] 스냅샷 갱신 완료: indexInfoId={}", indexInfoId);
+    }
+
+    // 기준 날짜가 바뀐 뒤 전체 지수 스냅샷을 다시 만든다. 여러 노드 중 한 곳에서만 실행된다
+    @Transactional
+    public void rebuildAll() {
+        if (!snapshotRepository.tryLock(REBUILD_LOCK_KEY)) {
+            log.info("[IndexPerformanceSnapshotWriter] 다른 노드가 스냅샷 전체 갱신 중");
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        for (Period period : Period.values()) {
+            LocalDate baseDate = period.baseDateOf(today);
+            int count = refreshScope(period, baseDate, null);
+            log.info("[IndexPerformanceSnapshotWriter] {} 스냅샷 전체 갱신: 기준 날짜={}, 지수 수={}",
+                period, baseDate, count);
+        }
+    }
+
+    private int refreshScope(Period period, LocalDate baseDate, Long indexInfoId) {
+        snapshotRepository.deleteScope(period.name(), indexInfoId);
+        return snapshotRepository.upsertScope(period.name(), baseDate, indexInfoId);
+    }
+}
@@ -0,0 +1,106 @@
+package com.sprint.findex.service.basic;
+
+import com.sprint.findex.global.lock.AdvisoryLockKeys;
+import com.sprint.findex.repository.SyncJobPartitionRepository;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// sync_job 월별 파티션을 미리 만들고 보관 기간이 지난 파티션은 떼어내거나 삭제한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SyncJobPartitionMaintainer {
+
+    private static final long LOCK_KEY = AdvisoryLockKeys.SYNC_JOB_PARTITION;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final SyncJobPartitionRepository syncJobPartitionRepository;
+
+    @Value("${sync.job-partition.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sync.job-partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${sync.job-partition.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${sync.job-partition.drop-expired:false}")
+    private boolean dropExpired;
+
+    // 기동 시 sync_job을 파티션 테이블로 맞추고 파티션을 만든다. 다른 핸들러가 이력을 쓰기 전에 먼저 실행된다
+    // ddl-auto가 막 만든 빈 테이블(새로 설치한 DB)은 바로 파티션 테이블로 바꾸고,
+    // 이력이 있는 일반 테이블이면 db/migration/sync_job_partition.sql을 적용하기 전까지 기동하지 않는다
+    @Transactional
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepare() {
+        if (!enabled) {
+            return;
+        }
+        // 여러 노드가 동시에 떠도 한 노드만 테이블을 바꾸고 나머지는 바뀐 뒤의 상태를 본다
+        syncJobPartitionRepository.lock(LOCK_KEY);
+        if (!syncJobPartitionRepository.isPartitioned()) {
+            if (!syncJobPartitionRepository.isEmpty()) {
+                throw new IllegalStateException("sync_job이 파티션 테이블이 아닙니다. "
+                    + "db/migration/sync_job_partition.sql을 적용한 뒤 다시 기동하세요 "
+                    + "(파티션 관리를 끄려면 sync.job-partition.enabled=false)");
+            }
+            syncJobPartitionRepository.recreateAsPartitioned();
+            log.info("[SyncJobPartitionMaintainer] 빈 sync_job을 파티션 테이블로 생성");
+        }
+        maintainPartitions();
+    }
+
+    // 매일 앞으로 쓸 파티션을 만들고 만료 파티션을 정리한다. 모든 DDL은 한 트랜잭션에서 실행된다
+    @Transactional
+    @Scheduled(cron = "${sync.job-partition.cron:0 30 1 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        if (!syncJobPartitionRepository.tryLock(LOCK_KEY)) {
+            log.info("[SyncJobPartitionMaintainer] 다른 노드가 파티션 관리 중");
+            return;
+        }
+        maintainPartitions();
+    }
+
+    private void maintainPartitions() {
+        YearMonth current = YearMonth.now(ZONE);
+        List<YearMonth> existing = syncJobPartitionRepository.findPartitionMonths();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!existing.contains(month)) {
+                syncJobPartitionRepository.createPartition(month, ZONE);
+                log.info("[SyncJobPartitionMaintainer] 파티션 생성: {}", syncJobPartitionRepository.partitionName(month));
+            }
+        }
+
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        for (YearMonth month : existing) {
+            if (!month.isBefore(oldestKept)) {
+                continue;
+            }
+            if (dropExpired) {
+                syncJobPartitionRepository.dropPartition(month);
+                log.info("[SyncJobPartitionMaintainer] 만료 파티션 삭제: {}", syncJobPartitionRepository.partitionName(month));
+            } else {
+                // 떼어낸 테이블은 보관/백업 후 운영자가 직접 삭제한다
+                syncJobPartitionRepository.detachPartition(month);
+                log.info("[SyncJobPartitionMaintainer] 만료 파티션 분리: {}", syncJobPartitionRepository.partitionName(month));
+            }
+        }
+    }
+}
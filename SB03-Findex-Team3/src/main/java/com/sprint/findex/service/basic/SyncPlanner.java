@@ -0,0 +1,96 @@
+package com.sprint.findex.service.basic;
+
+import com.sprint.findex.global.client.ApiQuotaTracker;
+import com.sprint.findex.repository.IndexInfoRepository;
+import com.sprint.findex.repository.SyncGapRepository;
+import com.sprint.findex.repository.SyncGapRepository.SyncGap;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SyncPlanner {
+
+    private final SyncGapRepository syncGapRepository;
+    private final ApiQuotaTracker apiQuotaTracker;
+    private final IndexInfoRepository indexInfoRepository;
+
+    @Value("${api.data.page-size:1000}")
+    private int pageSize;
+
+    @Value("${sync.planner.lookback-days:28}")
+    private int lookbackDays;
+
+    // 같은 누락 구간을 가진 지수끼리 묶어 구간당 한 번의 시장 전체 조회로 채운다
+    // 정상적인 지수들은 모두 "마지막 저장일 이후 ~ 오늘" 구간 하나로 묶인다
+    @Transactional(readOnly = true)
+    public List<SyncRange> plan(LocalDate today) {
+        List<SyncGap> gaps = syncGapRepository.findGaps(today.minusDays(lookbackDays), today);
+
+        Map<DateRange, List<Long>> indexIdsByRange = new LinkedHashMap<>();
+        for (SyncGap gap : gaps) {
+            indexIdsByRange.computeIfAbsent(new DateRange(gap.from(), gap.to()), range -> new ArrayList<>())
+                .add(gap.indexInfoId());
+        }
+
+        List<SyncRange> ranges = new ArrayList<>(indexIdsByRange.size());
+        indexIdsByRange.forEach((range, indexInfoIds) ->
+            ranges.add(new SyncRange(range.from(), range.to(), indexInfoIds)));
+
+        log.info("[SyncPlanner] 누락 구간 {}건을 조회 요청 {}건으로 계획", gaps.size(), ranges.size());
+
+        return fitToQuota(ranges);
+    }
+
+    // 시장 전체 조회는 구간의 거래일 수 x 전체 지수 수만큼 행을 페이지로 나눠 받으므로
+    // 구간별 예상 호출 수가 남은 일일 한도 안에 들어오는 구간만 실행하고 나머지는 다음 실행으로 미룬다
+    private List<SyncRange> fitToQuota(List<SyncRange> ranges) {
+        long catalogSize = Math.max(1, indexInfoRepository.count());
+        long budget = apiQuotaTracker.remaining();
+
+        List<SyncRange> scheduled = new ArrayList<>(ranges.size());
+        for (SyncRange range : ranges) {
+            long estimatedCalls = estimateCalls(range, catalogSize);
+            if (estimatedCalls > budget) {
+                continue;
+            }
+            budget -= estimatedCalls;
+            scheduled.add(range);
+        }
+
+        if (scheduled.size() < ranges.size()) {
+            log.warn("[SyncPlanner] 남은 일일 호출 한도({})가 부족해 구간 {}건 중 {}건만 실행하고 나머지는 미룸",
+                apiQuotaTracker.remaining(), ranges.size(), scheduled.size());
+        }
+        return scheduled;
+    }
+
+    private long estimateCalls(SyncRange range, long catalogSize) {
+        long tradingDays = 0;
+        for (LocalDate date = range.from(); !date.isAfter(range.to()); date = date.plusDays(1)) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                tradingDays++;
+            }
+        }
+        long rows = Math.max(1, tradingDays) * catalogSize;
+        return (rows + pageSize - 1) / pageSize;
+    }
+
+    private record DateRange(LocalDate from, LocalDate to) {
+
+    }
+
+    public record SyncRange(LocalDate from, LocalDate to, List<Long> indexInfoIds) {
+
+    }
+}
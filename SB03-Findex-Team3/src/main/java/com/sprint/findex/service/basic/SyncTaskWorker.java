@@ -0,0 +1,156 @@
+package com.sprint.findex.service.basic;
+
+import com.sprint.findex.dto.request.IndexDataSyncRequest;
+import com.sprint.findex.dto.response.SyncJobDto;
+import com.sprint.findex.entity.SyncJobResult;
+import com.sprint.findex.repository.SyncTaskQueueRepository;
+import com.sprint.findex.repository.SyncTaskQueueRepository.ClaimedTask;
+import com.sprint.findex.service.basic.SyncPlanner.SyncRange;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SyncTaskWorker {
+
+    private final SyncTaskQueueRepository syncTaskQueueRepository;
+    private final BasicSyncJobService basicSyncJobService;
+
+    // 노드마다 고유한 임대 소유자 이름 (sync_task.lease_owner 전용, sync_job.worker에는 넣지 않는다)
+    private final String workerId = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+
+    @Value("${sync.queue.enabled:false}")
+    private boolean queueEnabled;
+
+    @Value("${sync.queue.batch-size:50}")
+    private int batchSize;
+
+    @Value("${sync.queue.lease:10m}")
+    private Duration lease;
+
+    @Value("${sync.queue.max-attempts:3}")
+    private int maxAttempts;
+
+    public boolean isEnabled() {
+        return queueEnabled;
+    }
+
+    // 플래너가 구한 누락 구간을 지수별 작업으로 등록한다
+    public int enqueue(List<SyncRange> ranges) {
+        int enqueued = 0;
+        for (SyncRange range : ranges) {
+            for (Long indexInfoId : range.indexInfoIds()) {
+                enqueued += syncTaskQueueRepository.enqueue(indexInfoId, range.from(), range.to());
+            }
+        }
+
+        log.info("[SyncTaskWorker] 연동 작업 {}건 등록", enqueued);
+        return enqueued;
+    }
+
+    @Scheduled(fixedDelayString = "${sync.queue.poll-interval:10s}")
+    public void poll() {
+        if (!queueEnabled) {
+            return;
+        }
+
+        syncTaskQueueRepository.expireExhausted(maxAttempts);
+
+        List<ClaimedTask> tasks = syncTaskQueueRepository.claim(workerId, lease.toSeconds(), maxAttempts, batchSize);
+        if (tasks.isEmpty()) {
+            return;
+        }
+        log.info("[SyncTaskWorker] 연동 작업 {}건 선점: worker={}", tasks.size(), workerId);
+
+        // 같은 기간의 작업은 시장 전체 조회 한 번으로 함께 처리한다
+        Map<DateRange, List<ClaimedTask>> tasksByRange = new LinkedHashMap<>();
+        for (ClaimedTask task : tasks) {
+            tasksByRange.computeIfAbsent(new DateRange(task.rangeFrom(), task.rangeTo()), range -> new ArrayList<>())
+                .add(task);
+        }
+
+        // 구간 묶음을 하나씩 처리하므로 처리 직전에 임대를 늘리고, 한 묶음은 임대 시간 안에 끝나야 한다
+        for (List<ClaimedTask> group : tasksByRange.values()) {
+            List<ClaimedTask> owned = renew(group);
+            if (owned.isEmpty()) {
+                continue;
+            }
+
+            try {
+                process(owned).block();
+            } catch (Exception e) {
+                // 시간 초과 등으로 끝나지 못한 작업은 RUNNING으로 남기지 않고 재시도 대기로 돌린다
+                log.error("[SyncTaskWorker] 연동 작업 처리 실패: {}건", owned.size(), e);
+                failAll(owned, e);
+            }
+        }
+    }
+
+    private List<ClaimedTask> renew(List<ClaimedTask> tasks) {
+        List<Long> renewedIds = syncTaskQueueRepository.renew(
+            tasks.stream().map(ClaimedTask::id).toList(), workerId, lease.toSeconds());
+
+        if (renewedIds.size() < tasks.size()) {
+            log.warn("[SyncTaskWorker] 임대가 만료되어 다른 노드로 넘어간 작업 {}건 건너뜀", tasks.size() - renewedIds.size());
+        }
+        return tasks.stream().filter(task -> renewedIds.contains(task.id())).toList();
+    }
+
+    private Mono<Void> process(List<ClaimedTask> tasks) {
+        ClaimedTask first = tasks.get(0);
+        List<Long> indexInfoIds = tasks.stream().map(ClaimedTask::indexInfoId).toList();
+        IndexDataSyncRequest request = new IndexDataSyncRequest(indexInfoIds, first.rangeFrom(), first.rangeTo());
+
+        // sync_job.worker(VARCHAR 15)에는 스케줄러 경로와 같은 시스템 작업자 이름이 기록된다
+        return basicSyncJobService.fetchAndSaveIndexDataMarketWide(request, null)
+            .timeout(lease)
+            .doOnNext(jobs -> settle(tasks, jobs))
+            .then();
+    }
+
+    private void failAll(List<ClaimedTask> tasks, Exception e) {
+        for (ClaimedTask task : tasks) {
+            syncTaskQueueRepository.fail(task.id(), workerId, e.getMessage(), maxAttempts);
+        }
+    }
+
+    private void settle(List<ClaimedTask> tasks, List<SyncJobDto> jobs) {
+        for (ClaimedTask task : tasks) {
+            boolean failed = jobs.stream()
+                .anyMatch(job -> task.indexInfoId().equals(job.indexInfoId()) && job.result() == SyncJobResult.FAILED);
+
+            if (failed) {
+                syncTaskQueueRepository.fail(task.id(), workerId, "index data sync failed", maxAttempts);
+                log.warn("[SyncTaskWorker] 연동 작업 실패: taskId={}, indexInfoId={}, 시도={}",
+                    task.id(), task.indexInfoId(), task.attempts());
+            } else if (!syncTaskQueueRepository.complete(task.id(), workerId)) {
+                log.warn("[SyncTaskWorker] 임대가 만료되어 완료 처리하지 못함: taskId={}", task.id());
+            }
+        }
+    }
+
+    private record DateRange(LocalDate from, LocalDate to) {
+
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
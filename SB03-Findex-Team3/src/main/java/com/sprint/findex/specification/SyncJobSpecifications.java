@@ -42,8 +42,11 @@ public class SyncJobSpecifications {
                 predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("targetDate"), params.baseDateTo()));
             }
 
+            // 실행 레코드는 targetDate ~ targetDateTo 구간이 조회 기간과 겹치면 포함한다
             if (params.baseDateFrom() != null) {
-                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("targetDate"), params.baseDateFrom()));
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(
+                    criteriaBuilder.coalesce(root.<LocalDate>get("targetDateTo"), root.<LocalDate>get("targetDate")),
+                    params.baseDateFrom()));
             }
 
             if (hasValue(params.worker())) {
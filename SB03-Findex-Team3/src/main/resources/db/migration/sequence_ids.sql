@@ -0,0 +1,30 @@
+-- SERIAL/IDENTITY id 컬럼을 Hibernate pooled-lo 시퀀스(allocationSize 50)로 옮기는 1회성 마이그레이션
+-- 기존 데이터가 있는 DB에서 애플리케이션을 새 버전으로 올리기 전에 실행한다
+
+CREATE SEQUENCE IF NOT EXISTS index_info_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS auto_sync_config_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS index_data_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS sync_job_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS index_performance_snapshot_seq INCREMENT BY 50;
+
+-- 다음 nextval이 기존 최대 id + 1을 돌려주도록 맞춘다
+SELECT setval('index_info_seq', COALESCE((SELECT MAX(id) FROM index_info), 0) + 1, false);
+SELECT setval('auto_sync_config_seq', COALESCE((SELECT MAX(id) FROM auto_sync), 0) + 1, false);
+SELECT setval('index_data_seq', COALESCE((SELECT MAX(id) FROM index_data), 0) + 1, false);
+SELECT setval('sync_job_seq', COALESCE((SELECT MAX(id) FROM sync_job), 0) + 1, false);
+SELECT setval('index_performance_snapshot_seq',
+              COALESCE((SELECT MAX(id) FROM index_performance_snapshot), 0) + 1, false);
+
+-- SERIAL 기본값 / IDENTITY 속성을 제거하고 새 시퀀스를 기본값으로 사용한다
+ALTER TABLE index_info ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE auto_sync ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE index_data ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE sync_job ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE index_performance_snapshot ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+ALTER TABLE index_info ALTER COLUMN id TYPE BIGINT, ALTER COLUMN id SET DEFAULT nextval('index_info_seq');
+ALTER TABLE auto_sync ALTER COLUMN id TYPE BIGINT, ALTER COLUMN id SET DEFAULT nextval('auto_sync_config_seq');
+ALTER TABLE index_data ALTER COLUMN id TYPE BIGINT, ALTER COLUMN id SET DEFAULT nextval('index_data_seq');
+ALTER TABLE sync_job ALTER COLUMN id TYPE BIGINT, ALTER COLUMN id SET DEFAULT nextval('sync_job_seq');
+ALTER TABLE index_performance_snapshot ALTER COLUMN id TYPE BIGINT,
+    ALTER COLUMN id SET DEFAULT nextval('index_performance_snapshot_seq');
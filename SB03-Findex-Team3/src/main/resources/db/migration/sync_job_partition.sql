@@ -0,0 +1,105 @@
+-- 기존 sync_job을 job_time 기준 월별 RANGE 파티션 테이블(sync_job_pYYYYMM)로 옮기는 1회성 마이그레이션
+-- ddl-auto: update는 파티션 테이블을 만들지 못하므로, 모든 노드를 멈춘 뒤 새 버전을 올리기 전에 한 번 실행한다
+-- 이력이 있는 일반 sync_job이면 이 스크립트를 적용하기 전까지 기동이 실패한다 (빈 테이블은 기동 시 자동으로 바뀐다)
+-- (sequence_ids.sql이 먼저 적용되어 있어야 한다)
+--   psql -v ON_ERROR_STOP=1 -h $PGHOST -p $PGPORT -U $PGUSER -d $PGDATABASE \
+--        -f src/main/resources/db/migration/sync_job_partition.sql
+-- 한 트랜잭션으로 실행되므로 실패하면 원래 테이블이 그대로 남는다. 이미 파티션 테이블이면 아무것도 하지 않는다
+-- 옮기기 전 테이블은 sync_job_old로 남겨 두며, 건수를 확인한 뒤 운영자가 직접 삭제한다
+
+BEGIN;
+
+DO
+$$
+DECLARE
+    part_zone    CONSTANT TEXT := 'Asia/Seoul';
+    -- SyncJobPartitionMaintainer의 sync.job-partition.months-ahead 기본값과 같다
+    months_ahead CONSTANT INT  := 3;
+    old_pkey     TEXT;
+    first_month  TIMESTAMP;
+    last_month   TIMESTAMP;
+    part_month   TIMESTAMP;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+               WHERE c.relname = 'sync_job' AND n.nspname = current_schema() AND c.relkind = 'p') THEN
+        RAISE NOTICE 'sync_job은 이미 파티션 테이블이므로 건너뜀';
+        RETURN;
+    END IF;
+
+    LOCK TABLE sync_job IN ACCESS EXCLUSIVE MODE;
+
+    -- 새 테이블과 이름이 겹치는 PK/인덱스를 먼저 비켜 둔다
+    ALTER TABLE sync_job RENAME TO sync_job_old;
+
+    SELECT conname INTO old_pkey FROM pg_constraint
+    WHERE conrelid = 'sync_job_old'::regclass AND contype = 'p';
+    IF old_pkey IS NOT NULL THEN
+        EXECUTE format('ALTER TABLE sync_job_old RENAME CONSTRAINT %I TO sync_job_old_pkey', old_pkey);
+    END IF;
+
+    DROP INDEX IF EXISTS idx_sync_job_job_time;
+    DROP INDEX IF EXISTS idx_sync_job_target_date;
+    DROP INDEX IF EXISTS idx_sync_job_index_info;
+
+    -- 집계 모드 실행 레코드 컬럼이 아직 없는 DB도 같은 INSERT로 옮길 수 있게 한다
+    ALTER TABLE sync_job_old
+        ADD COLUMN IF NOT EXISTS target_date_to DATE,
+        ADD COLUMN IF NOT EXISTS inserted_count INT,
+        ADD COLUMN IF NOT EXISTS updated_count   INT,
+        ADD COLUMN IF NOT EXISTS unchanged_count INT,
+        ADD COLUMN IF NOT EXISTS failed_count    INT;
+
+    -- schema.sql의 sync_job과 같은 정의
+    CREATE TABLE sync_job
+    (
+        id             BIGINT                                NOT NULL DEFAULT nextval('sync_job_seq'),
+        index_info_id  BIGINT,
+        job_type       VARCHAR(10)                           NOT NULL,
+        target_date    DATE,
+        worker         VARCHAR(15)                           NOT NULL,
+        job_time       TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP NOT NULL,
+        result         VARCHAR(10)                           NOT NULL,
+        target_date_to  DATE,
+        inserted_count  INT,
+        updated_count   INT,
+        unchanged_count INT,
+        failed_count    INT,
+        PRIMARY KEY (id, job_time),
+        FOREIGN KEY (index_info_id) REFERENCES index_info (id) ON DELETE CASCADE,
+        CONSTRAINT result_check CHECK (result IN ('SUCCESS', 'FAILED')),
+        CONSTRAINT chk_sync_job_type CHECK (job_type IN ('INDEX_INFO', 'INDEX_DATA'))
+    ) PARTITION BY RANGE (job_time);
+
+    -- 기존 데이터의 가장 오래된 달부터 앞으로 months_ahead달까지 파티션을 만든다 (경계는 Asia/Seoul 자정)
+    last_month := date_trunc('month', now() AT TIME ZONE part_zone) + make_interval(months => months_ahead);
+    SELECT COALESCE(date_trunc('month', MIN(job_time) AT TIME ZONE part_zone),
+                    date_trunc('month', now() AT TIME ZONE part_zone))
+    INTO first_month FROM sync_job_old;
+
+    part_month := first_month;
+    WHILE part_month <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF sync_job FOR VALUES FROM (%L) TO (%L)',
+                       'sync_job_p' || to_char(part_month, 'YYYYMM'),
+                       part_month AT TIME ZONE part_zone,
+                       (part_month + INTERVAL '1 month') AT TIME ZONE part_zone);
+        part_month := part_month + INTERVAL '1 month';
+    END LOOP;
+
+    INSERT INTO sync_job (id, index_info_id, job_type, target_date, worker, job_time, result,
+                          target_date_to, inserted_count, updated_count, unchanged_count, failed_count)
+    SELECT id, index_info_id, job_type, target_date, worker, job_time, result,
+           target_date_to, inserted_count, updated_count, unchanged_count, failed_count
+    FROM sync_job_old;
+
+    CREATE INDEX idx_sync_job_job_time ON sync_job (job_time, id);
+    CREATE INDEX idx_sync_job_target_date ON sync_job (target_date, id);
+    CREATE INDEX idx_sync_job_index_info ON sync_job (index_info_id, job_time);
+
+    -- 옛 테이블의 id 기본값이 시퀀스를 계속 붙잡지 않게 한다
+    ALTER TABLE sync_job_old ALTER COLUMN id DROP DEFAULT;
+
+    RAISE NOTICE 'sync_job 파티션 전환 완료: % ~ %', to_char(first_month, 'YYYY-MM'), to_char(last_month, 'YYYY-MM');
+END
+$$;
+
+COMMIT;
@@ -1,11 +1,34 @@
+DROP TABLE IF EXISTS backfill_checkpoint;
+DROP TABLE IF EXISTS sync_task;
+DROP TABLE IF EXISTS scheduled_run;
+DROP TABLE IF EXISTS index_performance_snapshot;
 DROP TABLE IF EXISTS sync_job;
 DROP TABLE IF EXISTS index_data;
 DROP TABLE IF EXISTS auto_sync;
 DROP TABLE IF EXISTS index_info;
 
+DROP SEQUENCE IF EXISTS backfill_checkpoint_seq;
+DROP SEQUENCE IF EXISTS sync_task_seq;
+DROP SEQUENCE IF EXISTS scheduled_run_seq;
+DROP SEQUENCE IF EXISTS index_performance_snapshot_seq;
+DROP SEQUENCE IF EXISTS sync_job_seq;
+DROP SEQUENCE IF EXISTS index_data_seq;
+DROP SEQUENCE IF EXISTS auto_sync_config_seq;
+DROP SEQUENCE IF EXISTS index_info_seq;
+
+-- Hibernate pooled-lo 시퀀스 (allocationSize 50)
+CREATE SEQUENCE index_info_seq INCREMENT BY 50;
+CREATE SEQUENCE auto_sync_config_seq INCREMENT BY 50;
+CREATE SEQUENCE index_data_seq INCREMENT BY 50;
+CREATE SEQUENCE sync_job_seq INCREMENT BY 50;
+CREATE SEQUENCE index_performance_snapshot_seq INCREMENT BY 50;
+CREATE SEQUENCE scheduled_run_seq INCREMENT BY 50;
+CREATE SEQUENCE sync_task_seq INCREMENT BY 50;
+CREATE SEQUENCE backfill_checkpoint_seq INCREMENT BY 50;
+
 CREATE TABLE index_info
 (
-    id                   SERIAL           NOT NULL PRIMARY KEY,
+    id                   BIGINT           NOT NULL DEFAULT nextval('index_info_seq') PRIMARY KEY,
     index_classification VARCHAR(240)     NOT NULL,
     index_name           VARCHAR(240)     NOT NULL,
     employed_items_count INT              NOT NULL,
@@ -18,24 +41,42 @@ CREATE TABLE index_info
 );
 
 
+-- job_time 기준 월별 RANGE 파티션 (sync_job_pYYYYMM)
+-- 파티션은 SyncJobPartitionMaintainer가 기동 시와 매일 앞으로 몇 달치를 미리 만든다
+-- ddl-auto는 파티션 테이블을 만들지 않으므로, 새 DB는 SyncJobPartitionMaintainer가 기동 시 빈 테이블을 바꾸고
+-- 이력이 있는 기존 DB는 db/migration/sync_job_partition.sql로 옮긴다
 CREATE TABLE sync_job
 (
-    id            SERIAL                                NOT NULL PRIMARY KEY,
-    index_info_id SERIAL                                NOT NULL,
+    id            BIGINT                                NOT NULL DEFAULT nextval('sync_job_seq'),
+    index_info_id BIGINT,
     job_type      VARCHAR(10)                           NOT NULL,
     target_date   DATE,
     worker        VARCHAR(15)                           NOT NULL,
     job_time      TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP NOT NULL,
     result        VARCHAR(10)                            NOT NULL,
+    -- 집계 모드의 실행 레코드만 채운다 (일자별 레코드는 NULL)
+    target_date_to DATE,
+    -- 지수 데이터 연동 이력의 추가/갱신/변경없음/실패 건수 (일자별 레코드는 해당 결과만 1)
+    inserted_count  INT,
+    updated_count   INT,
+    unchanged_count INT,
+    failed_count    INT,
+    -- 파티션 테이블의 PK에는 파티션 키가 포함되어야 한다
+    PRIMARY KEY (id, job_time),
     FOREIGN KEY (index_info_id) REFERENCES index_info (id) ON DELETE CASCADE,
     CONSTRAINT result_check CHECK (result IN ('SUCCESS', 'FAILED')),
     CONSTRAINT chk_sync_job_type CHECK (job_type IN ('INDEX_INFO', 'INDEX_DATA'))
-);
+) PARTITION BY RANGE (job_time);
+
+-- SyncJobSpecifications 필터/정렬(jobTime, targetDate + id)과 지수별 최신 이력 조회용
+CREATE INDEX idx_sync_job_job_time ON sync_job (job_time, id);
+CREATE INDEX idx_sync_job_target_date ON sync_job (target_date, id);
+CREATE INDEX idx_sync_job_index_info ON sync_job (index_info_id, job_time);
 
 CREATE TABLE auto_sync
 (
-    id                   SERIAL       NOT NULL PRIMARY KEY,
-    index_info_id        SERIAL       NOT NULL,
+    id                   BIGINT       NOT NULL DEFAULT nextval('auto_sync_config_seq') PRIMARY KEY,
+    index_info_id        BIGINT       NOT NULL,
     index_classification VARCHAR(240) NOT NULL,
     index_name           VARCHAR(240) NOT NULL,
     enabled              BOOLEAN      NOT NULL,
@@ -44,8 +85,8 @@ CREATE TABLE auto_sync
 
 CREATE TABLE index_data
 (
-    id                  SERIAL       NOT NULL PRIMARY KEY,
-    index_info_id       SERIAL       NOT NULL,
+    id                  BIGINT       NOT NULL DEFAULT nextval('index_data_seq') PRIMARY KEY,
+    index_info_id       BIGINT       NOT NULL,
     base_date           DATE         NOT NULL,
     source_type         VARCHAR(20)  NOT NULL,
     market_price        NUMERIC,
@@ -60,4 +101,68 @@ CREATE TABLE index_data
     UNIQUE (index_info_id, base_date),
     FOREIGN KEY (index_info_id) REFERENCES index_info (id) ON DELETE CASCADE,
     CONSTRAINT chk_source_type CHECK (source_type IN ('USER', 'OPEN_API'))
-);
\ No newline at end of file
+);
+
+-- 연동 계획 시 거래일 판별용
+CREATE INDEX idx_index_data_base_date ON index_data (base_date);
+
+CREATE TABLE index_performance_snapshot
+(
+    id               BIGINT      NOT NULL DEFAULT nextval('index_performance_snapshot_seq') PRIMARY KEY,
+    index_info_id    BIGINT      NOT NULL,
+    period           VARCHAR(10) NOT NULL,
+    base_date        DATE        NOT NULL,
+    current_price    NUMERIC     NOT NULL,
+    before_price     NUMERIC     NOT NULL,
+    versus           NUMERIC     NOT NULL,
+    fluctuation_rate NUMERIC     NOT NULL,
+    refreshed_at     TIMESTAMPTZ NOT NULL,
+    UNIQUE (index_info_id, period),
+    FOREIGN KEY (index_info_id) REFERENCES index_info (id) ON DELETE CASCADE,
+    CONSTRAINT chk_snapshot_period CHECK (period IN ('DAILY', 'WEEKLY', 'MONTHLY', 'QUARTERLY', 'YEARLY'))
+);
+
+CREATE INDEX idx_performance_snapshot_rank ON index_performance_snapshot (period, fluctuation_rate);
+
+-- 클러스터 스케줄 작업 실행 완료 기록 (리더가 끝낸 작업을 다른 노드가 다시 실행하지 않도록)
+CREATE TABLE scheduled_run
+(
+    id          BIGINT       NOT NULL DEFAULT nextval('scheduled_run_seq') PRIMARY KEY,
+    task_name   VARCHAR(100) NOT NULL,
+    run_date    DATE         NOT NULL,
+    node        VARCHAR(255) NOT NULL,
+    finished_at TIMESTAMPTZ  NOT NULL,
+    UNIQUE (task_name, run_date)
+);
+
+-- 노드 간 연동 작업 큐 (SELECT ... FOR UPDATE SKIP LOCKED로 선점)
+CREATE TABLE sync_task
+(
+    id               BIGINT        NOT NULL DEFAULT nextval('sync_task_seq') PRIMARY KEY,
+    index_info_id    BIGINT        NOT NULL,
+    range_from       DATE          NOT NULL,
+    range_to         DATE          NOT NULL,
+    status           VARCHAR(10)   NOT NULL,
+    attempts         INT           NOT NULL DEFAULT 0,
+    lease_owner      VARCHAR(255),
+    lease_expires_at TIMESTAMPTZ,
+    last_error       VARCHAR(1000),
+    created_at       TIMESTAMPTZ   NOT NULL,
+    updated_at       TIMESTAMPTZ   NOT NULL,
+    FOREIGN KEY (index_info_id) REFERENCES index_info (id) ON DELETE CASCADE,
+    CONSTRAINT chk_sync_task_status CHECK (status IN ('PENDING', 'RUNNING', 'DONE', 'FAILED'))
+);
+
+CREATE INDEX idx_sync_task_claim ON sync_task (status, lease_expires_at);
+
+-- 백필 청크 완료 기록 (지수, 청크당 한 건)
+CREATE TABLE backfill_checkpoint
+(
+    id            BIGINT      NOT NULL DEFAULT nextval('backfill_checkpoint_seq') PRIMARY KEY,
+    index_info_id BIGINT      NOT NULL,
+    chunk_from    DATE        NOT NULL,
+    chunk_to      DATE        NOT NULL,
+    completed_at  TIMESTAMPTZ NOT NULL,
+    UNIQUE (index_info_id, chunk_from, chunk_to),
+    FOREIGN KEY (index_info_id) REFERENCES index_info (id) ON DELETE CASCADE
+);
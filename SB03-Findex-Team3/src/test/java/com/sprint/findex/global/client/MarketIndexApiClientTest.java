@@ -0,0 +1,99 @@
+package com.sprint.findex.global.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.findex.global.dto.ApiResponse;
+import com.sprint.findex.global.dto.MarketIndexResponse.MarketIndexData;
+import com.sprint.findex.global.exception.CommonException;
+import com.sprint.findex.global.exception.Errors;
+import com.sprint.findex.support.StubMarketIndexServer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+class MarketIndexApiClientTest {
+
+    private StubMarketIndexServer server;
+
+    @BeforeEach
+    void startStub() {
+        server = StubMarketIndexServer.start(1, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.close();
+    }
+
+    @Test
+    void retriesTransientServerErrorsWithBackoff() {
+        server.failFirst(2);
+        MarketIndexApiClient client = client(new ApiQuotaTracker(100));
+
+        List<MarketIndexData> items = client
+            .fetchMarketIndexData(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 3), null)
+            .collectList()
+            .block(Duration.ofSeconds(10));
+
+        assertThat(items).hasSize(2);
+        assertThat(items).extracting(MarketIndexData::getIdxNm).containsOnly(server.indexName(0));
+        assertThat(items.get(0).getClpr()).isNotNull();
+        assertThat(server.calls()).isEqualTo(3);
+    }
+
+    @Test
+    void stopsCallingOnceDailyQuotaIsUsedUp() {
+        server.failFirst(Integer.MAX_VALUE);
+        ApiQuotaTracker quota = new ApiQuotaTracker(2);
+        MarketIndexApiClient client = client(quota);
+
+        assertThatThrownBy(() -> client
+            .fetchMarketIndexData(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 3), null)
+            .collectList()
+            .block(Duration.ofSeconds(10)))
+            .isInstanceOf(CommonException.class)
+            .satisfies(e -> assertThat(((CommonException) e).getError()).isEqualTo(Errors.API_QUOTA_EXCEEDED));
+
+        assertThat(server.calls()).isEqualTo(2);
+        assertThat(quota.remaining()).isZero();
+    }
+
+    @Test
+    void fetchesCatalogueFromRecentTradingDaysOnly() {
+        server.close();
+        server = StubMarketIndexServer.start(3, LocalDate.of(2023, 1, 2), LocalDate.of(2024, 1, 31));
+        MarketIndexApiClient client = client(new ApiQuotaTracker(100));
+
+        List<ApiResponse.StockIndexItem> items = client
+            .fetchAllIndexInfos(LocalDate.of(2024, 1, 31))
+            .collectList()
+            .block(Duration.ofSeconds(10));
+
+        // 최근 14일(평일 11일) x 3개 지수 = 33행을 한 페이지로 받고 지수별 최근 거래일 항목만 남긴다
+        assertThat(server.calls()).isEqualTo(1);
+        assertThat(items).extracting(ApiResponse.StockIndexItem::getIndexName)
+            .containsExactlyInAnyOrder(server.indexName(0), server.indexName(1), server.indexName(2));
+        assertThat(items).extracting(ApiResponse.StockIndexItem::getBaseDate).containsOnly("20240131");
+    }
+
+    private MarketIndexApiClient client(ApiQuotaTracker quota) {
+        MarketIndexApiGuard guard = new MarketIndexApiGuard(
+            quota, 3, Duration.ofMillis(10), Duration.ofMillis(50), 100, 50, Duration.ofSeconds(60));
+        MarketIndexApiClient client = new MarketIndexApiClient(
+            WebClient.create(), new MarketIndexStreamDecoder(new ObjectMapper()), guard);
+
+        ReflectionTestUtils.setField(client, "serviceKey", "test");
+        ReflectionTestUtils.setField(client, "baseUrl", server.baseUrl());
+        ReflectionTestUtils.setField(client, "pageSize", 1000);
+        ReflectionTestUtils.setField(client, "fetchParallelism", 1);
+        ReflectionTestUtils.setField(client, "catalogLookbackDays", 14);
+        return client;
+    }
+}
@@ -0,0 +1,113 @@
+package com.sprint.findex.global.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.findex.global.dto.MarketIndexResponse.MarketIndexData;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+class MarketIndexStreamDecoderTest {
+
+    private static final String ITEM_ARRAY_PAGE = page(3, """
+        {"item":[
+          {"basDt":"20240102","idxCsf":"KOSPI시리즈","idxNm":"코스피","clpr":"2669.81","trqu":"409286553"},
+          {"basDt":"20240102","idxCsf":"KOSPI시리즈","idxNm":"코스피 200","clpr":"361.09","trqu":"121371849"},
+          {"basDt":"20240102","idxCsf":"KOSDAQ시리즈","idxNm":"코스닥","clpr":"878.93","trqu":"1143095451"}
+        ]}""");
+
+    private static final String SINGLE_ITEM_PAGE = page(1, """
+        {"item":{"basDt":"20240103","idxCsf":"KOSPI시리즈","idxNm":"코스피","clpr":"2607.31","trqu":"539718960"}}""");
+
+    private final MarketIndexStreamDecoder decoder = new MarketIndexStreamDecoder(new ObjectMapper());
+
+    @Test
+    void decodesEveryElementOfItemArray() {
+        List<Integer> totalCounts = new ArrayList<>();
+
+        List<MarketIndexData> items = decode(chunks(ITEM_ARRAY_PAGE), totalCounts);
+
+        assertThat(items).extracting(MarketIndexData::getIdxNm).containsExactly("코스피", "코스피 200", "코스닥");
+        assertThat(items.get(0).getClpr()).isEqualByComparingTo("2669.81");
+        assertThat(items.get(2).getTrqu()).isEqualTo(1143095451L);
+        assertThat(totalCounts).containsExactly(3);
+    }
+
+    @Test
+    void decodesSingleItemObject() {
+        List<Integer> totalCounts = new ArrayList<>();
+
+        List<MarketIndexData> items = decode(chunks(SINGLE_ITEM_PAGE), totalCounts);
+
+        assertThat(items).singleElement().satisfies(item -> {
+            assertThat(item.getBasDt()).isEqualTo("20240103");
+            assertThat(item.getClpr()).isEqualByComparingTo("2607.31");
+        });
+        assertThat(totalCounts).containsExactly(1);
+    }
+
+    @Test
+    void emptyBodyYieldsNoItems() {
+        List<Integer> totalCounts = new ArrayList<>();
+
+        assertThat(decode(Flux.empty(), totalCounts)).isEmpty();
+        assertThat(totalCounts).isEmpty();
+    }
+
+    @Test
+    void emptyResultPageYieldsNoItems() {
+        // 결과가 없으면 items가 빈 문자열로 온다
+        List<Integer> totalCounts = new ArrayList<>();
+
+        assertThat(decode(chunks(page(0, "\"\"")), totalCounts)).isEmpty();
+        assertThat(totalCounts).containsExactly(0);
+    }
+
+    @Test
+    void decodesTheSameWhenChunkBoundarySplitsAToken() {
+        byte[] bytes = ITEM_ARRAY_PAGE.getBytes(StandardCharsets.UTF_8);
+        // 필드 이름, 숫자 문자열, 멀티바이트 문자 한가운데를 모두 지나도록 모든 위치에서 한 번씩 잘라 본다
+        for (int split = 1; split < bytes.length; split++) {
+            List<Integer> totalCounts = new ArrayList<>();
+
+            List<MarketIndexData> items = decode(
+                chunks(Arrays.copyOfRange(bytes, 0, split), Arrays.copyOfRange(bytes, split, bytes.length)),
+                totalCounts);
+
+            assertThat(items).as("split at %d", split)
+                .extracting(MarketIndexData::getIdxNm, MarketIndexData::getClpr)
+                .containsExactly(
+                    tuple("코스피", new BigDecimal("2669.81")),
+                    tuple("코스피 200", new BigDecimal("361.09")),
+                    tuple("코스닥", new BigDecimal("878.93")));
+            assertThat(totalCounts).as("split at %d", split).containsExactly(3);
+        }
+    }
+
+    private List<MarketIndexData> decode(Flux<DataBuffer> body, List<Integer> totalCounts) {
+        return decoder.decode(body, totalCounts::add).collectList().block(Duration.ofSeconds(5));
+    }
+
+    private static Flux<DataBuffer> chunks(String json) {
+        return chunks(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Flux<DataBuffer> chunks(byte[]... parts) {
+        return Flux.fromStream(() -> Stream.of(parts).map(DefaultDataBufferFactory.sharedInstance::wrap));
+    }
+
+    private static String page(int totalCount, String items) {
+        return "{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},"
+            + "\"body\":{\"numOfRows\":1000,\"pageNo\":1,\"totalCount\":" + totalCount + ",\"items\":" + items + "}}}";
+    }
+}
@@ -0,0 +1,137 @@
+package com.sprint.findex.global.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.sprint.findex.entity.ScheduledRun;
+import com.sprint.findex.repository.ScheduledRunRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 같은 DB를 쓰는 두 노드를 ClusterLeaderLock 두 개로 흉내 낸다. advisory lock이 PostgreSQL 전용이라 PG* 환경변수가 필요하다
+// 실제 두 인스턴스로 확인하려면 같은 PG* 환경변수로 --server.port만 다르게 두 번 띄우고 sync.scheduler.cron을 같은 시각으로 맞춘다.
+// 한 노드에만 "리더로 선출됨"이 찍히고, 그 노드를 실행 도중 종료하면 다른 노드가 takeover-window 안에 이어서 실행한다
+@EnabledIfEnvironmentVariable(named = "PGHOST", matches = ".+")
+class ClusterLeaderLockTest {
+
+    private static final String TASK = "leader-lock-test";
+    private static final long LOCK_KEY = 0x7E57_0001L;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    // 두 노드가 공유하는 scheduled_run 테이블 대신 쓰는 완료 기록
+    private final Set<String> finishedRuns = ConcurrentHashMap.newKeySet();
+
+    private ClusterLeaderLock nodeA;
+    private ClusterLeaderLock nodeB;
+
+    @BeforeEach
+    void setUp() {
+        ScheduledRunRepository repository = mock(ScheduledRunRepository.class);
+        when(repository.existsByTaskNameAndRunDate(anyString(), any()))
+            .thenAnswer(invocation ->
+                finishedRuns.contains(invocation.getArgument(0) + "@" + invocation.getArgument(1)));
+        when(repository.save(any(ScheduledRun.class))).thenAnswer(invocation -> {
+            ScheduledRun run = invocation.getArgument(0);
+            finishedRuns.add(run.getTaskName() + "@" + run.getRunDate());
+            return run;
+        });
+
+        nodeA = node(repository);
+        nodeB = node(repository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.shutdown();
+        nodeB.shutdown();
+    }
+
+    @Test
+    void onlyOneNodeRunsAndTheOtherReturnsWithoutBlocking() throws Exception {
+        LocalDate runDate = LocalDate.of(2024, 1, 2);
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> leader = CompletableFuture.supplyAsync(() ->
+            nodeA.runAsLeader(TASK, LOCK_KEY, runDate, () -> {
+                runs.incrementAndGet();
+                leaderStarted.countDown();
+                await(releaseLeader);
+            }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long startedAt = System.nanoTime();
+        boolean ranOnB = nodeB.runAsLeader(TASK, LOCK_KEY, runDate, runs::incrementAndGet);
+        assertThat(ranOnB).isFalse();
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+
+        releaseLeader.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isTrue();
+
+        // B의 인계 재시도는 완료 기록을 보고 멈춘다
+        Thread.sleep(POLL_INTERVAL.toMillis() * 5);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void otherNodeTakesOverWhenLeaderDiesBeforeFinishing() throws Exception {
+        LocalDate runDate = LocalDate.of(2024, 1, 3);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        CountDownLatch takenOver = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> leader = CompletableFuture.supplyAsync(() ->
+            nodeA.runAsLeader(TASK, LOCK_KEY, runDate, () -> {
+                leaderStarted.countDown();
+                await(releaseLeader);
+                throw new IllegalStateException("leader crashed");
+            }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(nodeB.runAsLeader(TASK, LOCK_KEY, runDate, takenOver::countDown)).isFalse();
+
+        releaseLeader.countDown();
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("leader crashed");
+
+        assertThat(takenOver.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(finishedRuns).contains(TASK + "@" + runDate);
+    }
+
+    private ClusterLeaderLock node(ScheduledRunRepository repository) {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:postgresql://" + System.getenv("PGHOST") + ":"
+            + System.getenv().getOrDefault("PGPORT", "5432") + "/" + System.getenv("PGDATABASE"));
+        properties.setUsername(System.getenv("PGUSER"));
+        properties.setPassword(System.getenv("PGPASSWORD"));
+
+        ClusterLeaderLock lock = new ClusterLeaderLock(properties, repository);
+        ReflectionTestUtils.setField(lock, "pollInterval", POLL_INTERVAL);
+        ReflectionTestUtils.setField(lock, "takeoverWindow", Duration.ofSeconds(10));
+        return lock;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
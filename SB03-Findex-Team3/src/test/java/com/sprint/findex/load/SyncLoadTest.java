@@ -0,0 +1,177 @@
+package com.sprint.findex.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.findex.dto.request.IndexDataSyncRequest;
+import com.sprint.findex.entity.IndexInfo;
+import com.sprint.findex.repository.IndexInfoRepository;
+import com.sprint.findex.service.SyncJobService;
+import com.sprint.findex.support.StubMarketIndexServer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+// 로컬 스텁 API를 상대로 지수 정보/지수 데이터 연동 전체 경로를 돌려 처리량을 잰다
+// 업서트 SQL이 PostgreSQL 전용이라 PG* 환경변수로 지정한 전용 DB가 필요하다
+// 실행: ./gradlew loadTest -Dload.indexes=300 -Dload.years=3 -Dload.latency-ms=50 -Dload.error-rate=0.01
+@Slf4j
+@Tag("load")
+@SpringBootTest
+@TestMethodOrder(OrderAnnotation.class)
+class SyncLoadTest {
+
+    private static final int INDEXES = Integer.getInteger("load.indexes", 300);
+    private static final int YEARS = Integer.getInteger("load.years", 3);
+    private static final long LATENCY_MILLIS = Long.getLong("load.latency-ms", 50);
+    private static final double ERROR_RATE = Double.parseDouble(System.getProperty("load.error-rate", "0.01"));
+    private static final String WORKER_IP = "127.0.0.1";
+
+    private static final LocalDate LAST_DATE = LocalDate.now().minusDays(1);
+    private static final LocalDate FIRST_DATE = LAST_DATE.minusYears(YEARS).plusDays(1);
+
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+
+    private static final StubMarketIndexServer STUB = StubMarketIndexServer
+        .start(INDEXES, FIRST_DATE, LAST_DATE)
+        .latency(LATENCY_MILLIS)
+        .errorRate(ERROR_RATE);
+
+    @Autowired
+    private SyncJobService syncJobService;
+
+    @Autowired
+    private IndexInfoRepository indexInfoRepository;
+
+    @DynamicPropertySource
+    static void stubApi(DynamicPropertyRegistry registry) {
+        registry.add("api.data.base-url", STUB::baseUrl);
+        registry.add("api.data.service-key", () -> "load-test");
+        registry.add("api.data.daily-quota", () -> Integer.MAX_VALUE);
+        registry.add("api.data.rate-limit.calls-per-second", () -> 1000);
+        // 부하 측정 중에 자동연동이 끼어들지 않도록 한다
+        registry.add("sync.scheduler.cron", () -> "-");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Test
+    @Order(1)
+    void indexInfoSync() {
+        Result result = measure(() -> syncJobService.fetchAllIndexInfo(WORKER_IP)
+            .block(Duration.ofMinutes(10)).size());
+
+        report("지수 정보 연동", INDEXES, result);
+        assertThat(syncedIndexInfoIds()).hasSize(INDEXES);
+    }
+
+    @Test
+    @Order(2)
+    void indexDataSync() {
+        List<Long> indexInfoIds = syncedIndexInfoIds();
+        if (indexInfoIds.size() < INDEXES) {
+            syncJobService.fetchAllIndexInfo(WORKER_IP).block(Duration.ofMinutes(10));
+            indexInfoIds = syncedIndexInfoIds();
+        }
+        IndexDataSyncRequest request = new IndexDataSyncRequest(indexInfoIds, FIRST_DATE, LAST_DATE);
+
+        Result result = measure(() -> syncJobService.fetchAndSaveIndexData(request, WORKER_IP)
+            .block(Duration.ofHours(1)).size());
+
+        report("지수 데이터 연동", STUB.totalRows(FIRST_DATE, LAST_DATE), result);
+        assertThat(result.jobs()).isGreaterThanOrEqualTo(indexInfoIds.size());
+    }
+
+    private List<Long> syncedIndexInfoIds() {
+        return indexInfoRepository.findAllByOrderByIdAsc().stream()
+            .filter(indexInfo -> indexInfo.getIndexName().startsWith(StubMarketIndexServer.INDEX_NAME_PREFIX))
+            .map(IndexInfo::getId)
+            .toList();
+    }
+
+    private Result measure(Supplier<Integer> run) {
+        STUB.resetCounters();
+        STATEMENTS.set(0);
+        long started = System.nanoTime();
+        int jobs = run.get();
+        return new Result(jobs, Duration.ofNanos(System.nanoTime() - started),
+            STUB.calls(), STUB.failedCalls(), STATEMENTS.get());
+    }
+
+    private void report(String name, long rows, Result result) {
+        double seconds = Math.max(result.elapsed().toMillis(), 1) / 1000.0;
+        log.info("[SyncLoadTest] {}: 지수 {}개, {}행, {}초, {}행/초, 작업 {}건, API 호출 {}회(실패 {}회), DB 문장 {}개",
+            name, INDEXES, rows, String.format("%.1f", seconds), String.format("%.0f", rows / seconds), result.jobs(),
+            result.apiCalls(), result.failedApiCalls(), result.statements());
+    }
+
+    private record Result(int jobs, Duration elapsed, int apiCalls, int failedApiCalls, long statements) {}
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        // 커넥션에서 준비되는 SQL 문장 수를 센다 (배치는 한 번으로 집계된다)
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return counting(super.getConnection());
+                        }
+
+                        @Override
+                        public Connection getConnection(String username, String password) throws SQLException {
+                            return counting(super.getConnection(username, password));
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection counting(Connection target) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("prepareStatement") || name.equals("prepareCall")
+                        || name.equals("createStatement")) {
+                        STATEMENTS.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        }
+    }
+}
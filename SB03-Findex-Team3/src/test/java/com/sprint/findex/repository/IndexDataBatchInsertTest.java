@@ -0,0 +1,147 @@
+package com.sprint.findex.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.findex.entity.IndexData;
+import com.sprint.findex.entity.IndexInfo;
+import com.sprint.findex.entity.SourceType;
+import jakarta.persistence.EntityManagerFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+@DataJpaTest(properties = {
+    "spring.sql.init.mode=never",
+    "spring.jpa.database=h2",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(IndexDataBatchInsertTest.BatchRecordingConfig.class)
+class IndexDataBatchInsertTest {
+
+    private static final int ROW_COUNT = 120;
+    private static final List<Integer> INDEX_DATA_BATCHES = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private IndexInfoRepository indexInfoRepository;
+
+    @Autowired
+    private IndexDataRepository indexDataRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void insertsAreSentAsJdbcBatches() {
+        IndexInfo indexInfo = indexInfoRepository.save(new IndexInfo(
+            "KOSPI시리즈", "코스피", 200, LocalDate.of(1980, 1, 4),
+            BigDecimal.valueOf(100), SourceType.OPEN_API, false));
+        entityManager.flush();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        INDEX_DATA_BATCHES.clear();
+
+        List<IndexData> rows = IntStream.range(0, ROW_COUNT)
+            .mapToObj(i -> new IndexData(indexInfo, LocalDate.of(2024, 1, 1).plusDays(i),
+                SourceType.OPEN_API, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE,
+                BigDecimal.ZERO, BigDecimal.ZERO, 1L, 1L, 1L))
+            .toList();
+        indexDataRepository.saveAll(rows);
+        entityManager.flush();
+
+        // batch_size 50 -> index_data insert는 50/50/20건짜리 JDBC 배치 3번으로 나간다
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROW_COUNT);
+        assertThat(INDEX_DATA_BATCHES).containsExactly(50, 50, 20);
+    }
+
+    @TestConfiguration
+    static class BatchRecordingConfig {
+
+        // index_data insert 문장의 executeBatch마다 그 전까지 addBatch된 건수를 기록한다
+        @Bean
+        static BeanPostProcessor batchRecordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return recording(super.getConnection());
+                        }
+
+                        @Override
+                        public Connection getConnection(String username, String password) throws SQLException {
+                            return recording(super.getConnection(username, password));
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection recording(Connection target) {
+            return proxy(Connection.class, target, (method, args, result) -> {
+                if (method.getName().equals("prepareStatement") && args != null && args[0] instanceof String sql
+                    && sql.toLowerCase().startsWith("insert into index_data")) {
+                    return recording((PreparedStatement) result);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement recording(PreparedStatement target) {
+            AtomicInteger pending = new AtomicInteger();
+            return proxy(PreparedStatement.class, target, (method, args, result) -> {
+                if (method.getName().equals("addBatch")) {
+                    pending.incrementAndGet();
+                } else if (method.getName().equals("executeBatch")) {
+                    INDEX_DATA_BATCHES.add(pending.getAndSet(0));
+                }
+                return result;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, AfterInvoke afterInvoke) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                try {
+                    return afterInvoke.apply(method, args, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+
+        private interface AfterInvoke {
+
+            Object apply(Method method, Object[] args, Object result) throws Throwable;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.sprint.findex.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.findex.dto.request.IndexDataSyncRequest;
+import com.sprint.findex.dto.response.SyncJobDto;
+import com.sprint.findex.entity.IndexInfo;
+import com.sprint.findex.entity.SourceType;
+import com.sprint.findex.entity.SyncJob;
+import com.sprint.findex.entity.SyncJobResult;
+import com.sprint.findex.global.client.ApiQuotaTracker;
+import com.sprint.findex.global.client.MarketIndexApiClient;
+import com.sprint.findex.global.client.MarketIndexApiGuard;
+import com.sprint.findex.global.client.MarketIndexStreamDecoder;
+import com.sprint.findex.global.sync.InProcessSyncSingleFlight;
+import com.sprint.findex.repository.IndexInfoRepository;
+import com.sprint.findex.repository.SyncJobRepository;
+import com.sprint.findex.support.StubMarketIndexServer;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Schedulers;
+
+class BasicSyncJobServiceTest {
+
+    private static final int INDEXES = 5;
+
+    private StubMarketIndexServer server;
+    private IndexInfoRepository indexInfoRepository;
+    private SyncJobRepository syncJobRepository;
+    private IndexDataSyncWriter indexDataSyncWriter;
+
+    @BeforeEach
+    void setUp() {
+        server = StubMarketIndexServer.start(INDEXES, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+        indexInfoRepository = mock(IndexInfoRepository.class);
+        syncJobRepository = mock(SyncJobRepository.class);
+        indexDataSyncWriter = mock(IndexDataSyncWriter.class);
+
+        List<IndexInfo> indexInfos = LongStream.rangeClosed(1, INDEXES).mapToObj(this::indexInfo).toList();
+        when(indexInfoRepository.findAllById(any())).thenReturn(indexInfos);
+        when(indexInfoRepository.findById(anyLong()))
+            .thenAnswer(invocation -> Optional.of(indexInfos.get(invocation.<Long>getArgument(0).intValue() - 1)));
+        when(syncJobRepository.save(any(SyncJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(indexDataSyncWriter.chunkSize()).thenReturn(500);
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.close();
+    }
+
+    @Test
+    void recordsFailureForEveryIndexWhenMarketWideFetchFailsMidStream() {
+        // 한 페이지 3행: 첫 페이지는 지수 0~2의 첫 거래일, 두 번째 페이지부터 실패해 지수 3, 4는 그룹조차 생기지 않는다
+        server.failFromPage(2);
+        List<Long> indexInfoIds = LongStream.rangeClosed(1, INDEXES).boxed().toList();
+
+        List<SyncJobDto> jobs = service().fetchAndSaveIndexDataMarketWide(
+                new IndexDataSyncRequest(indexInfoIds, LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 5)), null)
+            .block(Duration.ofSeconds(10));
+
+        assertThat(jobs).extracting(SyncJobDto::indexInfoId).containsExactlyInAnyOrderElementsOf(indexInfoIds);
+        assertThat(jobs).extracting(SyncJobDto::result).containsOnly(SyncJobResult.FAILED);
+    }
+
+    private BasicSyncJobService service() {
+        BasicSyncJobService service = new BasicSyncJobService(client(), indexInfoRepository, syncJobRepository,
+            null, new ObjectMapper(), mock(ApplicationEventPublisher.class), indexDataSyncWriter, null, null,
+            new InProcessSyncSingleFlight(), Schedulers.boundedElastic());
+        ReflectionTestUtils.setField(service, "dbMaxConcurrency", 4);
+        return service;
+    }
+
+    private MarketIndexApiClient client() {
+        MarketIndexApiGuard guard = new MarketIndexApiGuard(
+            new ApiQuotaTracker(100), 2, Duration.ofMillis(10), Duration.ofMillis(50), 100, 50, Duration.ofSeconds(60));
+        MarketIndexApiClient client = new MarketIndexApiClient(
+            WebClient.create(), new MarketIndexStreamDecoder(new ObjectMapper()), guard);
+
+        ReflectionTestUtils.setField(client, "serviceKey", "test");
+        ReflectionTestUtils.setField(client, "baseUrl", server.baseUrl());
+        ReflectionTestUtils.setField(client, "pageSize", 3);
+        ReflectionTestUtils.setField(client, "fetchParallelism", 1);
+        return client;
+    }
+
+    private IndexInfo indexInfo(long id) {
+        int index = (int) id - 1;
+        IndexInfo indexInfo = new IndexInfo(server.indexClassification(index), server.indexName(index), 100,
+            LocalDate.of(2000, 1, 4), BigDecimal.valueOf(1000), SourceType.OPEN_API, false);
+        ReflectionTestUtils.setField(indexInfo, "id", id);
+        return indexInfo;
+    }
+}
@@ -0,0 +1,140 @@
+package com.sprint.findex.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.sprint.findex.dto.response.SyncJobDto;
+import com.sprint.findex.entity.IndexInfo;
+import com.sprint.findex.entity.SourceType;
+import com.sprint.findex.global.dto.MarketIndexResponse.MarketIndexData;
+import com.sprint.findex.repository.IndexDataBulkRepository;
+import com.sprint.findex.repository.IndexInfoRepository;
+import com.sprint.findex.service.basic.IndexDataSyncWriter.WriteResult;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 업서트 SQL(ON CONFLICT, xmax)이 PostgreSQL 전용이라 PG* 환경변수로 지정한 전용 DB가 필요하다
+// 추가/갱신 구분이 커밋된 행 기준이라 테스트 트랜잭션 없이 실행하고 직접 정리한다
+@EnabledIfEnvironmentVariable(named = "PGHOST", matches = ".+")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({IndexDataBulkRepository.class, IndexDataSyncWriter.class})
+class IndexDataSyncWriterTest {
+
+    private static final String WORKER_IP = "127.0.0.1";
+
+    @Autowired
+    private IndexDataSyncWriter writer;
+
+    @Autowired
+    private IndexInfoRepository indexInfoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private IndexInfo indexInfo;
+
+    @BeforeEach
+    void setUp() {
+        indexInfo = indexInfoRepository.save(new IndexInfo("테스트시리즈", "writer-" + UUID.randomUUID(), 100,
+            LocalDate.of(2000, 1, 4), BigDecimal.valueOf(1000), SourceType.OPEN_API, false));
+        ReflectionTestUtils.setField(writer, "aggregated", false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM sync_job WHERE index_info_id = ?", indexInfo.getId());
+        jdbcTemplate.update("DELETE FROM index_data WHERE index_info_id = ?", indexInfo.getId());
+        jdbcTemplate.update("DELETE FROM index_info WHERE id = ?", indexInfo.getId());
+    }
+
+    @Test
+    void resyncRecordsInsertedUpdatedAndUnchangedPerDate() {
+        writer.write(indexInfo, List.of(item("20240102", "100"), item("20240103", "101"), item("20240104", "102")),
+            WORKER_IP);
+
+        // 1/2는 그대로, 1/3은 종가 변경, 1/5는 새 일자
+        WriteResult result = writer.write(indexInfo,
+            List.of(item("20240102", "100"), item("20240103", "999"), item("20240105", "103")), WORKER_IP);
+
+        assertThat(result).extracting(WriteResult::inserted, WriteResult::updated, WriteResult::unchanged)
+            .containsExactly(1, 1, 1);
+        assertThat(result.jobs())
+            .extracting(SyncJobDto::targetDate, SyncJobDto::insertedCount, SyncJobDto::updatedCount,
+                SyncJobDto::unchangedCount, SyncJobDto::failedCount)
+            .containsExactlyInAnyOrder(
+                tuple(LocalDate.of(2024, 1, 2), 0, 0, 1, 0),
+                tuple(LocalDate.of(2024, 1, 3), 0, 1, 0, 0),
+                tuple(LocalDate.of(2024, 1, 5), 1, 0, 0, 0));
+
+        List<Long> jobIds = result.jobs().stream().map(SyncJobDto::id).toList();
+        assertThat(persistedCounts(jobIds)).containsExactlyInAnyOrder(
+            List.of(LocalDate.of(2024, 1, 2), 0, 0, 1, 0),
+            List.of(LocalDate.of(2024, 1, 3), 0, 1, 0, 0),
+            List.of(LocalDate.of(2024, 1, 5), 1, 0, 0, 0));
+    }
+
+    @Test
+    void resyncRunRecordCarriesTotals() {
+        ReflectionTestUtils.setField(writer, "aggregated", true);
+        writer.write(indexInfo, List.of(item("20240102", "100"), item("20240103", "101"), item("20240104", "102")),
+            WORKER_IP);
+
+        WriteResult result = writer.write(indexInfo,
+            List.of(item("20240102", "100"), item("20240103", "999"), item("20240105", "103")), WORKER_IP);
+        List<SyncJobDto> jobs = writer.writeRun(indexInfo, LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 5),
+            List.of(result), WORKER_IP);
+
+        SyncJobDto run = jobs.get(0);
+        assertThat(run).extracting(SyncJobDto::insertedCount, SyncJobDto::updatedCount,
+            SyncJobDto::unchangedCount, SyncJobDto::failedCount).containsExactly(1, 1, 1, 0);
+
+        Map<String, Object> persisted = jdbcTemplate.queryForMap(
+            "SELECT inserted_count, updated_count, unchanged_count, failed_count FROM sync_job WHERE id = ?",
+            run.id());
+        assertThat(persisted).containsExactlyInAnyOrderEntriesOf(Map.of(
+            "inserted_count", 1, "updated_count", 1, "unchanged_count", 1, "failed_count", 0));
+    }
+
+    private List<List<Object>> persistedCounts(List<Long> jobIds) {
+        return jdbcTemplate.query(
+            "SELECT target_date, inserted_count, updated_count, unchanged_count, failed_count FROM sync_job " +
+                "WHERE id = ANY (?)",
+            (rs, rowNum) -> List.<Object>of(rs.getObject("target_date", LocalDate.class),
+                rs.getInt("inserted_count"), rs.getInt("updated_count"),
+                rs.getInt("unchanged_count"), rs.getInt("failed_count")),
+            (Object) jobIds.toArray(Long[]::new));
+    }
+
+    private MarketIndexData item(String basDt, String closingPrice) {
+        MarketIndexData item = new MarketIndexData();
+        item.setBasDt(basDt);
+        item.setMkp(new BigDecimal("100.00"));
+        item.setClpr(new BigDecimal(closingPrice));
+        item.setHipr(new BigDecimal("110.00"));
+        item.setLopr(new BigDecimal("90.00"));
+        item.setVs(BigDecimal.ZERO);
+        item.setFltRt(BigDecimal.ZERO);
+        item.setTrqu(1L);
+        item.setTrPrc(1L);
+        item.setLstgMrktTotAmt(1L);
+        return item;
+    }
+}
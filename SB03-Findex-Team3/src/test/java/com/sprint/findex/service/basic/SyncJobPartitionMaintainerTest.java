@@ -0,0 +1,85 @@
+package com.sprint.findex.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.findex.repository.SyncJobPartitionRepository;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 파티션 DDL이 PostgreSQL 전용이라 PG* 환경변수가 필요하다. 전용 스키마 안에서 ddl-auto가 만든 sync_job을 흉내 낸다
+@EnabledIfEnvironmentVariable(named = "PGHOST", matches = ".+")
+class SyncJobPartitionMaintainerTest {
+
+    private static final String SCHEMA = "sync_job_partition_test";
+
+    private JdbcTemplate adminJdbcTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private SyncJobPartitionRepository repository;
+    private SyncJobPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        adminJdbcTemplate = new JdbcTemplate(dataSource(""));
+        adminJdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        adminJdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+
+        jdbcTemplate = new JdbcTemplate(dataSource("?currentSchema=" + SCHEMA));
+        jdbcTemplate.execute("CREATE SEQUENCE sync_job_seq INCREMENT BY 50");
+        jdbcTemplate.execute("CREATE TABLE index_info (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE sync_job (id BIGINT PRIMARY KEY, index_info_id BIGINT "
+            + "REFERENCES index_info (id), job_type VARCHAR(10) NOT NULL, target_date DATE, "
+            + "worker VARCHAR(15) NOT NULL, job_time TIMESTAMPTZ NOT NULL, result VARCHAR(10) NOT NULL)");
+
+        repository = new SyncJobPartitionRepository(jdbcTemplate);
+        maintainer = new SyncJobPartitionMaintainer(repository);
+        ReflectionTestUtils.setField(maintainer, "enabled", true);
+        ReflectionTestUtils.setField(maintainer, "monthsAhead", 3);
+        ReflectionTestUtils.setField(maintainer, "retentionMonths", 12);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adminJdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+    }
+
+    @Test
+    void freshInstallGetsPartitionedTable() {
+        maintainer.prepare();
+
+        YearMonth current = YearMonth.now(ZoneId.of("Asia/Seoul"));
+        assertThat(repository.isPartitioned()).isTrue();
+        assertThat(repository.findPartitionMonths())
+            .containsExactly(current, current.plusMonths(1), current.plusMonths(2), current.plusMonths(3));
+
+        jdbcTemplate.update(
+            "INSERT INTO sync_job (job_type, worker, result) VALUES ('INDEX_INFO', 'system', 'SUCCESS')");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM sync_job_p"
+            + current.toString().replace("-", ""), Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void startupFailsWhenExistingHistoryIsNotMigrated() {
+        jdbcTemplate.update("INSERT INTO sync_job (id, job_type, worker, job_time, result) "
+            + "VALUES (1, 'INDEX_INFO', 'system', now(), 'SUCCESS')");
+
+        assertThatThrownBy(maintainer::prepare)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("db/migration/sync_job_partition.sql");
+        assertThat(repository.isPartitioned()).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM sync_job", Integer.class)).isEqualTo(1);
+    }
+
+    private DriverManagerDataSource dataSource(String parameters) {
+        return new DriverManagerDataSource("jdbc:postgresql://" + System.getenv("PGHOST") + ":"
+            + System.getenv().getOrDefault("PGPORT", "5432") + "/" + System.getenv("PGDATABASE") + parameters,
+            System.getenv("PGUSER"), System.getenv("PGPASSWORD"));
+    }
+}
@@ -0,0 +1,255 @@
+package com.sprint.findex.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// data.go.kr getStockMarketIndex를 흉내 내는 로컬 스텁 서버
+// 평일마다 indexCount개 지수의 합성 시세를 만들어 numOfRows/pageNo 단위로 돌려준다
+public class StubMarketIndexServer implements AutoCloseable {
+
+    public static final String INDEX_NAME_PREFIX = "합성지수";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final int indexCount;
+    private final LocalDate firstDate;
+    private final LocalDate lastDate;
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failedCalls = new AtomicInteger();
+
+    private volatile long latencyMillis;
+    private volatile double errorRate;
+    // 처음 failFirst번의 호출은 무조건 503으로 응답한다
+    private volatile int failFirst;
+    // failFromPage번째 이후 페이지는 무조건 503으로 응답한다 (조회 도중 실패)
+    private volatile int failFromPage = Integer.MAX_VALUE;
+
+    private StubMarketIndexServer(int indexCount, LocalDate firstDate, LocalDate lastDate) throws IOException {
+        this.indexCount = indexCount;
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+        this.executor = Executors.newFixedThreadPool(32);
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/getStockMarketIndex", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    public static StubMarketIndexServer start(int indexCount, LocalDate firstDate, LocalDate lastDate) {
+        try {
+            return new StubMarketIndexServer(indexCount, firstDate, lastDate);
+        } catch (IOException e) {
+            throw new IllegalStateException("스텁 서버 시작 실패", e);
+        }
+    }
+
+    public StubMarketIndexServer latency(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+        return this;
+    }
+
+    public StubMarketIndexServer errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    public StubMarketIndexServer failFirst(int failFirst) {
+        this.failFirst = failFirst;
+        return this;
+    }
+
+    public StubMarketIndexServer failFromPage(int failFromPage) {
+        this.failFromPage = failFromPage;
+        return this;
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public int calls() {
+        return calls.get();
+    }
+
+    public int failedCalls() {
+        return failedCalls.get();
+    }
+
+    public void resetCounters() {
+        calls.set(0);
+        failedCalls.set(0);
+    }
+
+    // 기간 조회 시 스텁이 내려주는 전체 행 수 (부하 테스트의 처리량 계산용)
+    public long totalRows(LocalDate from, LocalDate to) {
+        return (long) tradingDates(from.isBefore(firstDate) ? firstDate : from,
+            to.isAfter(lastDate) ? lastDate : to).size() * indexCount;
+    }
+
+    public String indexClassification(int index) {
+        return "합성시리즈" + (index % 5);
+    }
+
+    public String indexName(int index) {
+        return INDEX_NAME_PREFIX + index;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int call = calls.incrementAndGet();
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            Map<String, String> query = query(exchange);
+            int pageNo = Integer.parseInt(query.getOrDefault("pageNo", "1"));
+            if (call <= failFirst || pageNo >= failFromPage || ThreadLocalRandom.current().nextDouble() < errorRate) {
+                failedCalls.incrementAndGet();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            byte[] body = page(query).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private String page(Map<String, String> query) {
+        int pageNo = Integer.parseInt(query.getOrDefault("pageNo", "1"));
+        int numOfRows = Integer.parseInt(query.getOrDefault("numOfRows", "10"));
+        // 기간이 없으면 전체 이력을 준다 (실제 API가 최근 거래일만 준다고 가정하지 않는다)
+        LocalDate from = query.containsKey("beginBasDt") ? parseDate(query.get("beginBasDt")) : firstDate;
+        LocalDate to = query.containsKey("endBasDt") ? parseDate(query.get("endBasDt")) : lastDate;
+        List<Integer> indexes = matchingIndexes(query.get("idxNm"));
+
+        List<LocalDate> dates = tradingDates(from.isBefore(firstDate) ? firstDate : from,
+            to.isAfter(lastDate) ? lastDate : to);
+        long totalCount = (long) dates.size() * indexes.size();
+
+        StringBuilder json = new StringBuilder(numOfRows * 400);
+        json.append("{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},")
+            .append("\"body\":{\"numOfRows\":").append(numOfRows)
+            .append(",\"pageNo\":").append(pageNo)
+            .append(",\"totalCount\":").append(totalCount)
+            .append(",\"items\":{\"item\":[");
+
+        long start = (long) (pageNo - 1) * numOfRows;
+        long end = Math.min(totalCount, start + numOfRows);
+        for (long row = start; row < end; row++) {
+            if (row > start) {
+                json.append(',');
+            }
+            LocalDate date = dates.get((int) (row / indexes.size()));
+            appendItem(json, indexes.get((int) (row % indexes.size())), date);
+        }
+
+        return json.append("]}}}}").toString();
+    }
+
+    private void appendItem(StringBuilder json, int index, LocalDate date) {
+        long day = date.toEpochDay();
+        BigDecimal close = price(index, day);
+        BigDecimal previous = price(index, day - 1);
+        BigDecimal versus = close.subtract(previous);
+        BigDecimal rate = versus.multiply(BigDecimal.valueOf(100)).divide(previous, 2, RoundingMode.HALF_UP);
+
+        json.append("{\"basDt\":\"").append(date.format(DATE_FORMATTER))
+            .append("\",\"idxCsf\":\"").append(indexClassification(index))
+            .append("\",\"idxNm\":\"").append(indexName(index))
+            .append("\",\"clpr\":\"").append(close)
+            .append("\",\"vs\":\"").append(versus)
+            .append("\",\"fltRt\":\"").append(rate)
+            .append("\",\"mkp\":\"").append(previous)
+            .append("\",\"hipr\":\"").append(close.max(previous).add(BigDecimal.ONE))
+            .append("\",\"lopr\":\"").append(close.min(previous).subtract(BigDecimal.ONE))
+            .append("\",\"trqu\":\"").append(100_000 + (day * 31 + index) % 900_000)
+            .append("\",\"trPrc\":\"").append(10_000_000 + (day * 17 + index) % 90_000_000)
+            .append("\",\"lstgMrktTotAmt\":\"").append(1_000_000_000L + (day * 13 + index) % 900_000_000L)
+            .append("\",\"lsYrEdVsFltRg\":\"0\",\"lsYrEdVsFltRt\":\"0\",\"yrWRcrdHgst\":\"0\",")
+            .append("\"yrWRcrdHgstDt\":\"").append(date.format(DATE_FORMATTER))
+            .append("\",\"yrWRcrdLwst\":\"0\",\"yrWRcrdLwstDt\":\"").append(date.format(DATE_FORMATTER))
+            .append("\",\"basPntm\":\"20000104\",\"basIdx\":\"1000\",\"epyItmsCnt\":\"")
+            .append(50 + index % 150)
+            .append("\"}");
+    }
+
+    // 지수와 날짜로 결정되는 합성 종가
+    private BigDecimal price(int index, long day) {
+        double value = 1000 + index * 10 + 50 * Math.sin((day + index) / 20.0) + (day % 365) * 0.1;
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private List<Integer> matchingIndexes(String indexName) {
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < indexCount; i++) {
+            if (indexName == null || indexName.equals(indexName(i))) {
+                indexes.add(i);
+            }
+        }
+        return indexes;
+    }
+
+    private List<LocalDate> tradingDates(LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    private LocalDate parseDate(String value) {
+        return LocalDate.parse(value, DATE_FORMATTER);
+    }
+
+    private Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> query = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) {
+            return query;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+}